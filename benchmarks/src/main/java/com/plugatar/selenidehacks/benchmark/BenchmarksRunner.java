@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks with the GC profiler (allocation rate per operation) enabled.
+ *
+ * <p>Accepts the standard JMH command line options, e.g. a benchmark name regexp.</p>
+ */
+public final class BenchmarksRunner {
+
+    /**
+     * Utility class ctor.
+     */
+    private BenchmarksRunner() {
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args the JMH command line options
+     * @throws CommandLineOptionException if options are invalid
+     * @throws RunnerException            if benchmarks run failed
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
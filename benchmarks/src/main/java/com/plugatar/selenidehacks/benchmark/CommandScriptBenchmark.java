@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CommandScript;
+import com.plugatar.selenidehacks.impl.CommandScriptOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data-driven script execution: compiled once, looked up in the cache and compiled for each row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CommandScriptBenchmark {
+    private static final String SCRIPT = "getText; getAttribute \"id\"; isDisplayed";
+    private SelenideElement element;
+    private CommandScript compiledScript;
+
+    @Setup
+    public void setup() {
+        this.element = StubElements.stubElement();
+        this.compiledScript = CommandScript.of(SCRIPT);
+    }
+
+    @Benchmark
+    public List<Object> compiledScriptExecuteOn() {
+        return this.compiledScript.executeOn(this.element);
+    }
+
+    @Benchmark
+    public List<Object> cachedScriptExecuteOn() {
+        return CommandScript.of(SCRIPT).executeOn(this.element);
+    }
+
+    @Benchmark
+    public List<Object> uncachedScriptExecuteOn() {
+        return new CommandScriptOf(SCRIPT).executeOn(this.element);
+    }
+}
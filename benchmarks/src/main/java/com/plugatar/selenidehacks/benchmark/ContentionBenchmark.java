@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy validation and invocation handler lookup under contention: 32 threads executing commands on
+ * the shared element.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(32)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+    private SelenideElement element;
+    private OuterCommand<String> getTextOuterCommand;
+    private OuterCommand<String> getTextPreparedOuterCommand;
+
+    @Setup
+    public void setup() {
+        this.element = StubElements.stubElement();
+        this.getTextOuterCommand = OuterCommand.of("getText");
+        this.getTextPreparedOuterCommand = OuterCommand.prepared("getText");
+    }
+
+    @Benchmark
+    public String directGetText() {
+        return this.element.getText();
+    }
+
+    @Benchmark
+    public String outerCommandExecuteOn() {
+        return this.getTextOuterCommand.executeOn(this.element);
+    }
+
+    @Benchmark
+    public String preparedOuterCommandExecuteOn() {
+        return this.getTextPreparedOuterCommand.executeOn(this.element);
+    }
+
+    @Benchmark
+    public String unsafeElementOfInvoke() {
+        return UnsafeSelenideElement.of(this.element).invoke0("getText");
+    }
+}
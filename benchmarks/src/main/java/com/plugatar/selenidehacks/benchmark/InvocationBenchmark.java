@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CustomArgsCommand;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvoker;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state invocation paths compared with a direct SelenideElement call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InvocationBenchmark {
+    private SelenideElement element;
+    private UnsafeSelenideElement unsafeElement;
+    private SelenideElementInvoker<String> getTextInvoker;
+    private OuterCommand<String> getTextOuterCommand;
+    private OuterCommand<String> getTextPreparedOuterCommand;
+    private Command<String> command;
+    private OuterCommand<String> executeOuterCommand;
+    private Command<String> customArgsCommand;
+
+    @Setup
+    public void setup() {
+        this.element = StubElements.stubElement();
+        this.unsafeElement = UnsafeSelenideElement.of(this.element);
+        this.getTextInvoker = UnsafeSelenideElement.invoker("getText");
+        this.getTextOuterCommand = OuterCommand.of("getText");
+        this.getTextPreparedOuterCommand = OuterCommand.prepared("getText");
+        this.command = StubElements.stubCommand();
+        this.executeOuterCommand = OuterCommand.of(this.command);
+        this.customArgsCommand = CustomArgsCommand.of(this.command, "arg");
+    }
+
+    @Benchmark
+    public String directGetText() {
+        return this.element.getText();
+    }
+
+    @Benchmark
+    public String unsafeElementInvoke() {
+        return this.unsafeElement.invoke("getText");
+    }
+
+    @Benchmark
+    public String unsafeElementInvoke0() {
+        return this.unsafeElement.invoke0("getText");
+    }
+
+    @Benchmark
+    public String unsafeElementExecute() {
+        return this.unsafeElement.execute(this.command);
+    }
+
+    @Benchmark
+    public String unsafeElementOfInvoke() {
+        return UnsafeSelenideElement.of(this.element).invoke("getText");
+    }
+
+    @Benchmark
+    public String invokerInvokeOn() {
+        return this.getTextInvoker.invokeOn(this.element);
+    }
+
+    @Benchmark
+    public String outerCommandExecuteOn() {
+        return this.getTextOuterCommand.executeOn(this.element);
+    }
+
+    @Benchmark
+    public String preparedOuterCommandExecuteOn() {
+        return this.getTextPreparedOuterCommand.executeOn(this.element);
+    }
+
+    @Benchmark
+    public String directExecute() {
+        return this.element.execute(this.command);
+    }
+
+    @Benchmark
+    public String outerCommandOfCommandExecuteOn() {
+        return this.executeOuterCommand.executeOn(this.element);
+    }
+
+    @Benchmark
+    public String directCommandExecute() throws IOException {
+        return this.command.execute(this.element, null, Command.NO_ARGS);
+    }
+
+    @Benchmark
+    public String customArgsCommandExecute() throws IOException {
+        return this.customArgsCommand.execute(this.element, null, Command.NO_ARGS);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.fixtures.InMemoryElements;
+import com.plugatar.selenidehacks.fixtures.InMemoryWebElement;
+
+/**
+ * Browserless stub elements for benchmarks.
+ */
+final class StubElements {
+    static final String TEXT = "text";
+
+    /**
+     * Utility class ctor.
+     */
+    private StubElements() {
+    }
+
+    /**
+     * Returns in-memory SelenideElement with the Selenide invocation handler and {@link #TEXT} text.
+     *
+     * @return stub SelenideElement
+     */
+    static SelenideElement stubElement() {
+        return InMemoryElements.of(new InMemoryWebElement("div").setText(TEXT));
+    }
+
+    /**
+     * Returns command that returns {@link #TEXT}.
+     *
+     * @return stub command
+     */
+    static Command<String> stubCommand() {
+        return (proxy, locator, args) -> TEXT;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.benchmark;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failure-heavy workload: unknown method names used as control flow, called at given stack depth.
+ * Each benchmark runs in a JVM with its own {@code selenide.hacks.validationErrors} mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ValidationFailureBenchmark {
+    @Param({"10", "100"})
+    private int stackDepth;
+    private UnsafeSelenideElement unsafeElement;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SelenideElement element = StubElements.stubElement();
+        this.unsafeElement = UnsafeSelenideElement.of(element);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dselenide.hacks.validationErrors=full")
+    public Object fullErrors() {
+        return this.failAtDepth(this.stackDepth);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dselenide.hacks.validationErrors=stackless")
+    public Object stacklessErrors() {
+        return this.failAtDepth(this.stackDepth);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dselenide.hacks.validationErrors=preallocated")
+    public Object preallocatedErrors() {
+        return this.failAtDepth(this.stackDepth);
+    }
+
+    private Object failAtDepth(final int depth) {
+        if (depth > 0) {
+            return this.failAtDepth(depth - 1);
+        }
+        try {
+            return this.unsafeElement.invoke0("notExistingMethod");
+        } catch (final SelenideElementInvocationException ex) {
+            return ex;
+        }
+    }
+}
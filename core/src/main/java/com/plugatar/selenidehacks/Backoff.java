@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff policy with jitter: the first delay equals the initial interval, each next delay is
+ * multiplied by the multiplier up to the max interval, each delay is randomly changed by the jitter fraction.
+ * Waiting ends when the timeout is reached.
+ */
+@ParametersAreNonnullByDefault
+public final class Backoff {
+    private static final double DEFAULT_MULTIPLIER = 2.0;
+    private static final double DEFAULT_JITTER = 0.2;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final Duration timeout;
+    private final double multiplier;
+    private final double jitter;
+
+    private Backoff(final Duration initialInterval,
+                    final Duration maxInterval,
+                    final Duration timeout,
+                    final double multiplier,
+                    final double jitter) {
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.timeout = timeout;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Returns backoff policy with multiplier 2.0 and jitter 0.2.
+     *
+     * @param initialInterval the first delay
+     * @param maxInterval     the max delay
+     * @param timeout         the timeout
+     * @return backoff policy
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if any argument is negative, if {@code initialInterval} is zero
+     *                                  or if {@code maxInterval} is less than {@code initialInterval}
+     */
+    public static Backoff of(final Duration initialInterval,
+                             final Duration maxInterval,
+                             final Duration timeout) {
+        Objects.requireNonNull(initialInterval, "initialInterval arg is null");
+        Objects.requireNonNull(maxInterval, "maxInterval arg is null");
+        Objects.requireNonNull(timeout, "timeout arg is null");
+        if (initialInterval.isNegative() || maxInterval.isNegative() || timeout.isNegative()) {
+            throw new IllegalArgumentException("Negative duration argument");
+        }
+        if (initialInterval.isZero()) {
+            throw new IllegalArgumentException("initialInterval arg is zero");
+        }
+        if (maxInterval.compareTo(initialInterval) < 0) {
+            throw new IllegalArgumentException("maxInterval arg is less than initialInterval");
+        }
+        return new Backoff(initialInterval, maxInterval, timeout, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+    }
+
+    /**
+     * Returns copy of this policy with given multiplier.
+     *
+     * @param newMultiplier the multiplier
+     * @return copy of this policy with given multiplier
+     * @throws IllegalArgumentException if {@code newMultiplier} is less than 1
+     */
+    public Backoff withMultiplier(final double newMultiplier) {
+        if (!(newMultiplier >= 1.0)) {
+            throw new IllegalArgumentException("multiplier arg is less than 1");
+        }
+        return new Backoff(this.initialInterval, this.maxInterval, this.timeout, newMultiplier, this.jitter);
+    }
+
+    /**
+     * Returns copy of this policy with given jitter.
+     *
+     * @param newJitter the jitter fraction in range {@code [0, 1]}
+     * @return copy of this policy with given jitter
+     * @throws IllegalArgumentException if {@code newJitter} is out of range {@code [0, 1]}
+     */
+    public Backoff withJitter(final double newJitter) {
+        if (!(newJitter >= 0.0 && newJitter <= 1.0)) {
+            throw new IllegalArgumentException("jitter arg is out of range [0, 1]");
+        }
+        return new Backoff(this.initialInterval, this.maxInterval, this.timeout, this.multiplier, newJitter);
+    }
+
+    /**
+     * Returns copy of this policy with given timeout.
+     *
+     * @param newTimeout the timeout
+     * @return copy of this policy with given timeout
+     * @throws NullPointerException     if {@code newTimeout} is {@code null}
+     * @throws IllegalArgumentException if {@code newTimeout} is negative
+     */
+    public Backoff withTimeout(final Duration newTimeout) {
+        Objects.requireNonNull(newTimeout, "newTimeout arg is null");
+        if (newTimeout.isNegative()) {
+            throw new IllegalArgumentException("newTimeout arg is negative");
+        }
+        return new Backoff(this.initialInterval, this.maxInterval, newTimeout, this.multiplier, this.jitter);
+    }
+
+    /**
+     * Returns the timeout.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Returns delay in nanoseconds before given retry.
+     *
+     * @param retryNumber the retry number starting from 0
+     * @return delay in nanoseconds
+     */
+    public long delayNanos(final int retryNumber) {
+        final double initialNanos = this.initialInterval.toNanos();
+        final double maxNanos = this.maxInterval.toNanos();
+        final double delay = Math.min(maxNanos, initialNanos * Math.pow(this.multiplier, Math.max(0, retryNumber)));
+        final double jitterFactor = this.jitter == 0.0
+            ? 1.0
+            : 1.0 + this.jitter * (2.0 * ThreadLocalRandom.current().nextDouble() - 1.0);
+        return (long) Math.min(maxNanos, delay * jitterFactor);
+    }
+
+    @Override
+    public String toString() {
+        return "Backoff{initialInterval=" + this.initialInterval + ", maxInterval=" + this.maxInterval
+            + ", timeout=" + this.timeout + ", multiplier=" + this.multiplier + ", jitter=" + this.jitter + "}";
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.plugatar.selenidehacks.impl.BackoffCommandOf;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Utility class providing access to the {@link BackoffCommandOf} constructor
+ * through {@link #of(Backoff, Command, Object...)} method.
+ */
+@ParametersAreNonnullByDefault
+public final class BackoffCommand {
+
+    /**
+     * Utility class ctor.
+     */
+    private BackoffCommand() {
+    }
+
+    /**
+     * Returns command with custom args that waits for the origin command success with given backoff policy.
+     *
+     * @param backoff       the backoff policy
+     * @param originCommand the origin command
+     * @param commandArgs   the command arguments
+     * @param <T>           the command return type
+     * @return command waiting for the origin command success
+     * @throws NullPointerException if {@code backoff} or {@code originCommand} is null
+     * @see BackoffCommandOf
+     */
+    public static <T> BackoffCommandOf<T> of(final Backoff backoff,
+                                             final Command<? extends T> originCommand,
+                                             final @Nullable Object... commandArgs) {
+        return new BackoffCommandOf<>(backoff, originCommand, commandArgs);
+    }
+}
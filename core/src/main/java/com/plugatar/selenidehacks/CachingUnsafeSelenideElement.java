@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * {@link UnsafeSelenideElement} that caches state between invocations, e.g. the resolved
+ * {@link org.openqa.selenium.WebElement} or results of read-only methods.
+ */
+@ParametersAreNonnullByDefault
+public interface CachingUnsafeSelenideElement extends UnsafeSelenideElement {
+
+    /**
+     * Drops the cached state, the next invocation works with the actual element state.
+     */
+    void invalidate();
+}
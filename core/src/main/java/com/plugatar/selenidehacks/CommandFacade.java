@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks {@link com.codeborne.selenide.Command} implementation for the typed facade generation by
+ * the {@code selenide-hacks-processor} annotation processor. The facade class is generated in the package
+ * of the command and contains static methods executing the command via
+ * {@link com.codeborne.selenide.SelenideElement#execute(com.codeborne.selenide.Command)} with
+ * {@link CustomArgsCommand} arguments, without reflection and varargs. The command has to be stateless and
+ * has to have public no-args constructor, one command instance is shared by all facade invocations.
+ *
+ * <pre>{@code
+ * @CommandFacade(facade = "MyCommands", method = "append", args = String.class, argNames = "text")
+ * public class MyAppend implements Command<SelenideElement> { ... }
+ *
+ * MyCommands.append(element, "text");
+ * MyCommands.append(element, "text", Duration.ofSeconds(20));
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CommandFacade {
+
+    /**
+     * Returns the facade class simple name. Commands of one package with the same facade name are
+     * collected into one facade class.
+     *
+     * @return the facade class simple name
+     */
+    String facade() default "Commands";
+
+    /**
+     * Returns the facade method name. The command class simple name without {@code Command} suffix
+     * starting with a lowercase letter is used by default.
+     *
+     * @return the facade method name
+     */
+    String method() default "";
+
+    /**
+     * Returns the command arguments types.
+     *
+     * @return the command arguments types
+     */
+    Class<?>[] args() default {};
+
+    /**
+     * Returns the command arguments names. Names {@code arg0}, {@code arg1} etc. are used by default.
+     *
+     * @return the command arguments names
+     */
+    String[] argNames() default {};
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.impl.CommandPipelineOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Proxy;
+
+/**
+ * Buffered pipeline of commands. Commands are queued in one FIFO queue and executed in the queueing order.
+ * Consecutive {@link Command}s of the same element are executed as one {@link FusedCommand}, so consecutive
+ * supported commands are merged into a single JavaScript call and the element is resolved once per run.
+ * {@link OuterCommand}s are executed as is.
+ *
+ * <p>Commands of different elements are never reordered and never fused into one script, so an interleaved
+ * fill of several fields costs a JavaScript call and an element lookup for each run. Queue the commands of each
+ * element consecutively where the order of the fields does not matter.</p>
+ *
+ * <p>The pipeline is flushed when the number of queued commands reaches the flush threshold, on
+ * {@link #flush()} call and on {@code executeOn} call. If a command fails, the commands before it are
+ * executed, the failed run of commands is dropped and the commands after it remain queued. The pipeline is
+ * not thread-safe.</p>
+ *
+ * <pre>{@code
+ * CommandPipeline pipeline = CommandPipeline.of(16);
+ * pipeline.enqueue(login, CustomArgsCommand.of(new SetValue(), "user"));
+ * pipeline.enqueue(password, CustomArgsCommand.of(new SetValue(), "secret"));
+ * pipeline.flush();
+ * }</pre>
+ */
+@ParametersAreNonnullByDefault
+public interface CommandPipeline {
+
+    /**
+     * Queues given command for given element. The pipeline is flushed if the number of queued commands
+     * reaches the flush threshold.
+     *
+     * @param element the element
+     * @param command the command
+     * @return this pipeline
+     * @throws NullPointerException               if {@code command} is {@code null}
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    CommandPipeline enqueue(SelenideElement element,
+                            Command<?> command);
+
+    /**
+     * Queues given outer command for given element. The pipeline is flushed if the number of queued commands
+     * reaches the flush threshold.
+     *
+     * @param element      the element
+     * @param outerCommand the outer command
+     * @return this pipeline
+     * @throws NullPointerException               if {@code outerCommand} is {@code null}
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    CommandPipeline enqueue(SelenideElement element,
+                            OuterCommand<?> outerCommand);
+
+    /**
+     * Executes queued commands and then given command. Given command is merged with the queued commands
+     * of given element queued last.
+     *
+     * @param element the element
+     * @param command the command
+     * @param <T>     the command return type
+     * @return the command returned value
+     * @throws NullPointerException               if {@code command} is {@code null}
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    <T> T executeOn(SelenideElement element,
+                    Command<? extends T> command);
+
+    /**
+     * Executes queued commands and then given outer command.
+     *
+     * @param element      the element
+     * @param outerCommand the outer command
+     * @param <T>          the command return type
+     * @return the outer command returned value
+     * @throws NullPointerException               if {@code outerCommand} is {@code null}
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    <T> T executeOn(SelenideElement element,
+                    OuterCommand<? extends T> outerCommand);
+
+    /**
+     * Executes queued commands in the queueing order.
+     */
+    void flush();
+
+    /**
+     * Returns queued commands count.
+     *
+     * @return queued commands count
+     */
+    int pendingCount();
+
+    /**
+     * Returns new empty pipeline with given flush threshold.
+     *
+     * @param flushThreshold the number of queued commands that triggers the flush
+     * @return new pipeline
+     * @throws IllegalArgumentException if {@code flushThreshold} is less than 1
+     */
+    static CommandPipeline of(final int flushThreshold) {
+        return new CommandPipelineOf(flushThreshold);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.plugatar.selenidehacks.impl.CommandScriptOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.List;
+
+/**
+ * Compiled text script of SelenideElement method invocations. The script is parsed and its methods are
+ * resolved once, the compiled script is immutable and thread-safe.
+ *
+ * <p>Script syntax: steps separated by {@code ;}, each step is a SelenideElement method name followed by
+ * arguments separated by whitespaces or commas. Arguments are string literals in double quotes with
+ * {@code \"}, {@code \\}, {@code \n} and {@code \t} escapes, integer and decimal numbers, durations
+ * (integer with {@code ms}, {@code s} or {@code m} suffix), {@code true}, {@code false}, {@code null},
+ * {@link com.codeborne.selenide.Condition} constants (e.g. {@code visible}) and
+ * {@link com.codeborne.selenide.Condition} factory methods calls (e.g. {@code text("bar")}).</p>
+ *
+ * <pre>{@code
+ * CommandScript script = CommandScript.of("setValue \"foo\"; click; shouldHave text(\"bar\"), 5s");
+ * script.executeOn(element);
+ * }</pre>
+ */
+@ParametersAreNonnullByDefault
+public interface CommandScript extends OuterCommand<List<Object>> {
+
+    /**
+     * Returns the script text.
+     *
+     * @return the script text
+     */
+    String text();
+
+    /**
+     * Returns the script steps.
+     *
+     * @return unmodifiable list of steps
+     */
+    List<OuterCommand<?>> steps();
+
+    /**
+     * Returns compiled script of given text. Compiled scripts are cached by the script text, the least recently
+     * used script is evicted when the cache is full.
+     *
+     * @param script the script text
+     * @return compiled script
+     * @throws NullPointerException               if {@code script} is {@code null}
+     * @throws SelenideElementInvocationException if {@code script} has syntax error or if method or condition
+     *                                            is not found
+     */
+    static CommandScript of(final String script) {
+        return CommandScriptOf.cached(script);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Absolute point in time based on {@link System#nanoTime()}, e.g. a time budget shared by all commands
+ * of one scenario.
+ */
+@ParametersAreNonnullByDefault
+public final class Deadline {
+    private final long deadlineNanos;
+
+    private Deadline(final long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Returns deadline after given budget from now.
+     *
+     * @param budget the budget
+     * @return deadline
+     * @throws NullPointerException     if {@code budget} is {@code null}
+     * @throws IllegalArgumentException if {@code budget} is negative
+     */
+    public static Deadline after(final Duration budget) {
+        Objects.requireNonNull(budget, "budget arg is null");
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException("budget arg is negative");
+        }
+        long budgetNanos;
+        try {
+            budgetNanos = Math.min(budget.toNanos(), Long.MAX_VALUE / 2);
+        } catch (final ArithmeticException ex) {
+            budgetNanos = Long.MAX_VALUE / 2;
+        }
+        return new Deadline(System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Returns remaining time, {@link Duration#ZERO} if deadline is exceeded.
+     *
+     * @return remaining time
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, this.remainingNanos()));
+    }
+
+    /**
+     * Returns {@code true} if deadline is exceeded.
+     *
+     * @return {@code true} if deadline is exceeded
+     */
+    public boolean isExceeded() {
+        return this.remainingNanos() <= 0L;
+    }
+
+    /**
+     * Returns the smallest of given timeout and remaining time.
+     *
+     * @param timeout the timeout
+     * @return the smallest of given timeout and remaining time
+     * @throws NullPointerException if {@code timeout} is {@code null}
+     */
+    public Duration cap(final Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout arg is null");
+        final Duration remaining = this.remaining();
+        return timeout.compareTo(remaining) <= 0 ? timeout : remaining;
+    }
+
+    private long remainingNanos() {
+        return this.deadlineNanos - System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remainingMillis=" + this.remainingNanos() / 1_000_000L + "}";
+    }
+}
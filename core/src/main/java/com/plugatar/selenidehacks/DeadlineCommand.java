@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.plugatar.selenidehacks.impl.DeadlineCommandOf;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Utility class providing access to the {@link DeadlineCommandOf} constructor
+ * through {@link #of(Deadline, Command, Object...)} method.
+ */
+@ParametersAreNonnullByDefault
+public final class DeadlineCommand {
+
+    /**
+     * Utility class ctor.
+     */
+    private DeadlineCommand() {
+    }
+
+    /**
+     * Returns command with custom args bounded by given deadline.
+     *
+     * @param deadline      the deadline
+     * @param originCommand the origin command
+     * @param commandArgs   the command arguments
+     * @param <T>           the command return type
+     * @return command with custom args bounded by given deadline
+     * @throws NullPointerException if {@code deadline} or {@code originCommand} is null
+     * @see DeadlineCommandOf
+     */
+    public static <T> Command<T> of(final Deadline deadline,
+                                    final Command<? extends T> originCommand,
+                                    final @Nullable Object... commandArgs) {
+        return new DeadlineCommandOf<>(deadline, originCommand, commandArgs);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.impl.FanOutOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Executes {@link OuterCommand}s on elements living in different WebDriver sessions in parallel.
+ *
+ * <p>Targets of one session are processed one by one on the session executor (see
+ * {@link OuterCommand#executeOnAsync(SelenideElement)}), targets of different sessions are processed
+ * concurrently with bounded concurrency. Elements have to be bound to an explicit
+ * {@link com.codeborne.selenide.SelenideDriver}.</p>
+ */
+@ParametersAreNonnullByDefault
+public interface FanOut {
+
+    /**
+     * Executes given commands one by one on each of given targets and waits for completion. If a command fails
+     * on a target, the rest commands are not executed on this target.
+     *
+     * @param commands the commands
+     * @param targets  the targets
+     * @param <T>      the commands return type
+     * @return the report
+     * @throws NullPointerException               if {@code commands} or {@code targets} or any of its elements
+     *                                            is {@code null}
+     * @throws SelenideElementInvocationException if any of targets is not instantiated as a Proxy
+     *                                            or is bound to the static Selenide driver
+     *                                            or if current thread is interrupted while waiting
+     */
+    <T> FanOutReport<T> execute(List<? extends OuterCommand<? extends T>> commands,
+                                List<? extends SelenideElement> targets);
+
+    /**
+     * Executes given command on each of given targets and waits for completion.
+     *
+     * @param command the command
+     * @param targets the targets
+     * @param <T>     the command return type
+     * @return the report
+     * @throws NullPointerException               if {@code command} or {@code targets} or any of targets
+     *                                            is {@code null}
+     * @throws SelenideElementInvocationException if any of targets is not instantiated as a Proxy
+     *                                            or is bound to the static Selenide driver
+     *                                            or if current thread is interrupted while waiting
+     */
+    default <T> FanOutReport<T> execute(final OuterCommand<? extends T> command,
+                                        final List<? extends SelenideElement> targets) {
+        return this.execute(Collections.singletonList(command), targets);
+    }
+
+    /**
+     * Returns FanOut with given maximum number of concurrently processed sessions.
+     *
+     * @param maxConcurrentSessions the maximum number of concurrently processed sessions
+     * @return FanOut
+     * @throws IllegalArgumentException if {@code maxConcurrentSessions} is less than 1
+     */
+    static FanOut of(final int maxConcurrentSessions) {
+        return new FanOutOf(maxConcurrentSessions);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.SelenideElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of {@link FanOut} execution: commands results and failure for each target.
+ *
+ * @param <T> the commands return type
+ */
+@ParametersAreNonnullByDefault
+public final class FanOutReport<T> {
+    private final List<Entry<T>> entries;
+    private final long durationNanos;
+
+    /**
+     * Ctor.
+     *
+     * @param entries       the entries in the targets order
+     * @param durationNanos the execution duration in nanoseconds
+     * @throws NullPointerException if {@code entries} is {@code null}
+     */
+    public FanOutReport(final List<Entry<T>> entries,
+                        final long durationNanos) {
+        this.entries = Collections.unmodifiableList(new ArrayList<>(
+            Objects.requireNonNull(entries, "entries arg is null")));
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Returns entries in the targets order.
+     *
+     * @return entries
+     */
+    public List<Entry<T>> entries() {
+        return this.entries;
+    }
+
+    /**
+     * Returns failed entries in the targets order.
+     *
+     * @return failed entries
+     */
+    public List<Entry<T>> failedEntries() {
+        final List<Entry<T>> failed = new ArrayList<>();
+        for (final Entry<T> entry : this.entries) {
+            if (!entry.isSuccessful()) {
+                failed.add(entry);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Returns {@code true} if commands are executed successfully on all targets.
+     *
+     * @return {@code true} if commands are executed successfully on all targets
+     */
+    public boolean isSuccessful() {
+        for (final Entry<T> entry : this.entries) {
+            if (!entry.isSuccessful()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the execution duration in nanoseconds.
+     *
+     * @return the execution duration in nanoseconds
+     */
+    public long durationNanos() {
+        return this.durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "FanOutReport{targets=" + this.entries.size()
+            + ", failed=" + this.failedEntries().size()
+            + ", durationMillis=" + this.durationNanos / 1_000_000L + "}";
+    }
+
+    /**
+     * Result of commands execution on one target.
+     *
+     * @param <T> the commands return type
+     */
+    public static final class Entry<T> {
+        private final SelenideElement target;
+        private final List<T> results;
+        private final Throwable failure;
+
+        /**
+         * Ctor.
+         *
+         * @param target  the target
+         * @param results the results of successfully executed commands
+         * @param failure the failure or {@code null} if all commands are executed successfully
+         * @throws NullPointerException if {@code target} or {@code results} is {@code null}
+         */
+        public Entry(final SelenideElement target,
+                     final List<T> results,
+                     final @Nullable Throwable failure) {
+            this.target = Objects.requireNonNull(target, "target arg is null");
+            this.results = Collections.unmodifiableList(new ArrayList<>(
+                Objects.requireNonNull(results, "results arg is null")));
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the target.
+         *
+         * @return the target
+         */
+        public SelenideElement target() {
+            return this.target;
+        }
+
+        /**
+         * Returns results of successfully executed commands in the commands order.
+         *
+         * @return results
+         */
+        public List<T> results() {
+            return this.results;
+        }
+
+        /**
+         * Returns the failure.
+         *
+         * @return the failure or {@code null} if all commands are executed successfully
+         */
+        @Nullable
+        public Throwable failure() {
+            return this.failure;
+        }
+
+        /**
+         * Returns {@code true} if all commands are executed successfully.
+         *
+         * @return {@code true} if all commands are executed successfully
+         */
+        public boolean isSuccessful() {
+            return this.failure == null;
+        }
+    }
+}
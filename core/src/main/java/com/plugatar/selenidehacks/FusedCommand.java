@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.plugatar.selenidehacks.impl.FusedCommandOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.List;
+
+/**
+ * Utility class providing access to the {@link FusedCommandOf} constructor
+ * through {@link #of(Command...)} method.
+ */
+@ParametersAreNonnullByDefault
+public final class FusedCommand {
+
+    /**
+     * Utility class ctor.
+     */
+    private FusedCommand() {
+    }
+
+    /**
+     * Returns command that executes consecutive supported commands in a single JavaScript call
+     * and other commands as ordinary steps.
+     *
+     * @param commands the commands
+     * @return fused command returning the list of commands results
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     * @see FusedCommandOf
+     */
+    public static Command<List<Object>> of(final Command<?>... commands) {
+        return new FusedCommandOf(commands);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Objects;
+
+/**
+ * Listener of {@link com.codeborne.selenide.SelenideElement} invocations performed via
+ * {@link UnsafeSelenideElement} and {@link OuterCommand}.
+ *
+ * @see InvocationListeners
+ */
+@ParametersAreNonnullByDefault
+@FunctionalInterface
+public interface InvocationListener {
+
+    /**
+     * Called after each invocation.
+     *
+     * @param name          the SelenideElement method name or the Command class name for
+     *                      {@code execute} method invocations
+     * @param durationNanos the invocation duration in nanoseconds
+     * @param failure       the invocation failure or {@code null} if invocation completed successfully
+     */
+    void invoked(String name,
+                 long durationNanos,
+                 @Nullable Throwable failure);
+
+    /**
+     * Called after each invocation with invocation details. By default calls
+     * {@link #invoked(String, long, Throwable)} method.
+     *
+     * @param name          the SelenideElement method name or the Command class name for
+     *                      {@code execute} method invocations
+     * @param methodName    the SelenideElement method name
+     * @param methodArgs    the method arguments
+     * @param result        the value that returned by method invoking or {@code null} if invocation failed
+     * @param durationNanos the invocation duration in nanoseconds
+     * @param failure       the invocation failure or {@code null} if invocation completed successfully
+     */
+    default void invoked(final String name,
+                         final String methodName,
+                         final @Nullable Object[] methodArgs,
+                         final @Nullable Object result,
+                         final long durationNanos,
+                         final @Nullable Throwable failure) {
+        this.invoked(name, durationNanos, failure);
+    }
+
+    /**
+     * Returns composed listener that calls this listener and then given listener.
+     *
+     * @param after the listener to call after this listener
+     * @return composed listener
+     * @throws NullPointerException if {@code after} is {@code null}
+     */
+    default InvocationListener andThen(final InvocationListener after) {
+        Objects.requireNonNull(after, "after arg is null");
+        final InvocationListener before = this;
+        return new InvocationListener() {
+            @Override
+            public void invoked(final String name,
+                                final long durationNanos,
+                                final @Nullable Throwable failure) {
+                before.invoked(name, durationNanos, failure);
+                after.invoked(name, durationNanos, failure);
+            }
+
+            @Override
+            public void invoked(final String name,
+                                final String methodName,
+                                final @Nullable Object[] methodArgs,
+                                final @Nullable Object result,
+                                final long durationNanos,
+                                final @Nullable Throwable failure) {
+                before.invoked(name, methodName, methodArgs, result, durationNanos, failure);
+                after.invoked(name, methodName, methodArgs, result, durationNanos, failure);
+            }
+        };
+    }
+}
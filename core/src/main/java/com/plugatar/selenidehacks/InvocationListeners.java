@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Global {@link InvocationListener} registry.
+ *
+ * <p>Invocations are not timed while no listener is set.</p>
+ */
+@ParametersAreNonnullByDefault
+public final class InvocationListeners {
+    private static volatile InvocationListener listener = null;
+
+    /**
+     * Utility class ctor.
+     */
+    private InvocationListeners() {
+    }
+
+    /**
+     * Sets the global listener.
+     *
+     * @param newListener the listener or {@code null} to remove current listener
+     */
+    public static void set(final @Nullable InvocationListener newListener) {
+        listener = newListener;
+    }
+
+    /**
+     * Returns the global listener.
+     *
+     * @return the listener or {@code null} if listener is not set
+     */
+    @Nullable
+    public static InvocationListener current() {
+        return listener;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.plugatar.selenidehacks.impl.InvocationMetricsOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.file.Path;
+
+/**
+ * {@link InvocationListener} that records invocations count, failures count and latency histogram
+ * for each SelenideElement method name and Command class.
+ *
+ * <pre>{@code
+ * InvocationMetrics metrics = InvocationMetrics.of();
+ * InvocationListeners.set(metrics);
+ * metrics.exportOnShutdown(Paths.get("target/invocation-metrics.json"));
+ * }</pre>
+ */
+@ParametersAreNonnullByDefault
+public interface InvocationMetrics extends InvocationListener {
+
+    /**
+     * Returns metrics as JSON object keyed by invocation name.
+     *
+     * @return metrics as JSON
+     */
+    String toJson();
+
+    /**
+     * Returns metrics as CSV with header line.
+     *
+     * @return metrics as CSV
+     */
+    String toCsv();
+
+    /**
+     * Registers JVM shutdown hook writing metrics to given file. Metrics are written as CSV
+     * if file name ends with {@code .csv}, otherwise as JSON.
+     *
+     * @param file the file
+     * @throws NullPointerException if {@code file} is {@code null}
+     */
+    void exportOnShutdown(Path file);
+
+    /**
+     * Returns new empty InvocationMetrics.
+     *
+     * @return new InvocationMetrics
+     */
+    static InvocationMetrics of() {
+        return new InvocationMetricsOf();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.impl.OuterCommandOf;
+import com.plugatar.selenidehacks.impl.PreparedOuterCommandOf;
+import com.plugatar.selenidehacks.impl.SequenceCommandOf;
+import com.plugatar.selenidehacks.impl.SessionExecutors;
+import com.plugatar.selenidehacks.impl.ValidationErrors;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents command that can be executed on an {@link SelenideElement}
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public interface OuterCommand<T> {
+
+    /**
+     * Executes this command on given SelenideElement.
+     *
+     * @param element the SelenideElement for execution
+     * @return the command returned value
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    T executeOn(SelenideElement element);
+
+    /**
+     * Executes this command on each element of given collection.
+     *
+     * @param elements the elements collection for execution
+     * @return the command returned values in the document order
+     * @throws SelenideElementInvocationException if {@code elements} is {@code null}
+     *                                            or if command execution on any element fails
+     */
+    default List<T> executeOnAll(final ElementsCollection elements) {
+        if (elements == null) { throw ValidationErrors.error("elements arg is null"); }
+        final List<T> results = new ArrayList<>();
+        for (final SelenideElement element : elements.asFixedIterable()) {
+            results.add(this.executeOn(element));
+        }
+        return results;
+    }
+
+    /**
+     * Executes this command on given SelenideElement asynchronously. Commands of one WebDriver session are
+     * executed one at a time in submission order, commands of different sessions are executed concurrently.
+     * Given element has to be bound to an explicit {@link com.codeborne.selenide.SelenideDriver}.
+     *
+     * @param element the SelenideElement for execution
+     * @return the future of the command returned value
+     * @throws SelenideElementInvocationException if {@code element} is {@code null},
+     *                                            if {@code element} is not instantiated as a {@link Proxy}
+     *                                            or if {@code element} is bound to the static Selenide driver
+     * @see SessionExecutors
+     */
+    default CompletableFuture<T> executeOnAsync(final SelenideElement element) {
+        final Executor executor = SessionExecutors.of(element);
+        return CompletableFuture.supplyAsync(() -> this.executeOn(element), executor);
+    }
+
+    /**
+     * Returns OuterCommand of given method name and arguments.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @param <T>        the command return type
+     * @return OuterCommand of given method name and args
+     */
+    static <T> OuterCommand<T> of(final String methodName,
+                                  final Object... methodArgs) {
+        return new OuterCommandOf<>(methodName, methodArgs);
+    }
+
+    /**
+     * Returns OuterCommand based on {@link SelenideElement#execute(Command)} method
+     * of given command (as a first argument) and rest arguments.
+     *
+     * @param executeMethodFirstArg the execute method first argument
+     * @param executeMethodRestArgs the execute method rest arguments
+     * @param <T>                   the command return type
+     * @return OuterCommand of given command (as a first argument) and rest arguments
+     */
+    static <T> OuterCommand<T> of(final Command<? extends T> executeMethodFirstArg,
+                                  final Object... executeMethodRestArgs) {
+        return new OuterCommandOf<>(executeMethodFirstArg, executeMethodRestArgs);
+    }
+
+    /**
+     * Returns OuterCommand of given method name and arguments with the method resolved once.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @param <T>        the command return type
+     * @return prepared OuterCommand of given method name and args
+     * @throws SelenideElementInvocationException if method not found
+     */
+    static <T> OuterCommand<T> prepared(final String methodName,
+                                        final Object... methodArgs) {
+        return new PreparedOuterCommandOf<>(methodName, methodArgs);
+    }
+
+    /**
+     * Returns OuterCommand based on {@link SelenideElement#execute(Command)} method
+     * of given command (as a first argument) and rest arguments with the method resolved once.
+     *
+     * @param executeMethodFirstArg the execute method first argument
+     * @param executeMethodRestArgs the execute method rest arguments
+     * @param <T>                   the command return type
+     * @return prepared OuterCommand of given command (as a first argument) and rest arguments
+     * @throws SelenideElementInvocationException if method not found
+     */
+    static <T> OuterCommand<T> prepared(final Command<? extends T> executeMethodFirstArg,
+                                        final Object... executeMethodRestArgs) {
+        return new PreparedOuterCommandOf<>(executeMethodFirstArg, executeMethodRestArgs);
+    }
+
+    /**
+     * Returns OuterCommand that executes given commands one by one under one element resolution. Each command
+     * is a separate invocation of the element proxy, so only the failed command is retried by Selenide.
+     *
+     * @param commands the commands
+     * @return OuterCommand of given commands returning the list of commands results
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     * @see SequenceCommandOf
+     */
+    static OuterCommand<List<Object>> sequence(final Command<?>... commands) {
+        return new SequenceCommandOf(commands);
+    }
+}
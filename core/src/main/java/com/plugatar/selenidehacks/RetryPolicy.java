@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Retry policy of {@link RetryingOuterCommand}: max attempts, timeout of each attempt, delays between retries,
+ * overall budget and failures classification.
+ *
+ * <p>The default classifier checks the failure and its causes, because Selenide wraps WebDriver exceptions into
+ * {@code UIAssertionError}. {@link StaleElementReferenceException} and {@link ElementClickInterceptedException}
+ * are retried immediately. Other {@link WebDriverException} except {@link JavascriptException} are retried after
+ * the backoff delay. Other failures, e.g. {@link AssertionError} of conditions and
+ * {@link SelenideElementInvocationException}, are never retried.</p>
+ */
+@ParametersAreNonnullByDefault
+public final class RetryPolicy {
+    private static final Classifier DEFAULT_CLASSIFIER = RetryPolicy::defaultDecision;
+    private static final int MAX_CAUSE_DEPTH = 16;
+    private final int maxAttempts;
+    @Nullable
+    private final Duration attemptTimeout;
+    @Nullable
+    private final Backoff backoff;
+    @Nullable
+    private final Duration budget;
+    private final Classifier classifier;
+
+    private RetryPolicy(final int maxAttempts,
+                        final @Nullable Duration attemptTimeout,
+                        final @Nullable Backoff backoff,
+                        final @Nullable Duration budget,
+                        final Classifier classifier) {
+        this.maxAttempts = maxAttempts;
+        this.attemptTimeout = attemptTimeout;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.classifier = classifier;
+    }
+
+    /**
+     * Returns policy with given max attempts, without delays and budget and with the default classifier.
+     *
+     * @param maxAttempts the max attempts including the first one
+     * @return retry policy
+     * @throws IllegalArgumentException if {@code maxAttempts} is less than 1
+     */
+    public static RetryPolicy of(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts arg is less than 1");
+        }
+        return new RetryPolicy(maxAttempts, null, null, null, DEFAULT_CLASSIFIER);
+    }
+
+    /**
+     * Returns copy of this policy with given timeout of each attempt. The timeout is passed to the Selenide
+     * element method as the {@link Duration} argument, so a failing attempt ends after this timeout instead of
+     * the configured Selenide timeout. The timeout is applied to outer commands returned by
+     * {@link OuterCommand#of(String, Object...)} and {@link OuterCommand#of(com.codeborne.selenide.Command, Object...)}
+     * if the method has an overload with the trailing {@link Duration} parameter, e.g. {@code execute},
+     * {@code should}, {@code shouldHave} and {@code shouldBe}.
+     *
+     * @param newAttemptTimeout the attempt timeout
+     * @return copy of this policy with given attempt timeout
+     * @throws NullPointerException     if {@code newAttemptTimeout} is {@code null}
+     * @throws IllegalArgumentException if {@code newAttemptTimeout} is negative or zero
+     */
+    public RetryPolicy withAttemptTimeout(final Duration newAttemptTimeout) {
+        Objects.requireNonNull(newAttemptTimeout, "newAttemptTimeout arg is null");
+        if (newAttemptTimeout.isNegative() || newAttemptTimeout.isZero()) {
+            throw new IllegalArgumentException("newAttemptTimeout arg is not positive");
+        }
+        return new RetryPolicy(this.maxAttempts, newAttemptTimeout, this.backoff, this.budget, this.classifier);
+    }
+
+    /**
+     * Returns copy of this policy with given backoff. Delays before {@link Decision#RETRY_WITH_BACKOFF}
+     * retries are taken from the backoff, the backoff timeout becomes the budget if the budget is not set.
+     *
+     * @param newBackoff the backoff
+     * @return copy of this policy with given backoff
+     * @throws NullPointerException if {@code newBackoff} is {@code null}
+     */
+    public RetryPolicy withBackoff(final Backoff newBackoff) {
+        Objects.requireNonNull(newBackoff, "newBackoff arg is null");
+        return new RetryPolicy(this.maxAttempts, this.attemptTimeout, newBackoff, this.budget, this.classifier);
+    }
+
+    /**
+     * Returns copy of this policy with given overall budget. No retry is made after the budget is spent, the
+     * attempt timeout is limited by the rest of the budget.
+     *
+     * @param newBudget the budget
+     * @return copy of this policy with given budget
+     * @throws NullPointerException     if {@code newBudget} is {@code null}
+     * @throws IllegalArgumentException if {@code newBudget} is negative
+     */
+    public RetryPolicy withBudget(final Duration newBudget) {
+        Objects.requireNonNull(newBudget, "newBudget arg is null");
+        if (newBudget.isNegative()) {
+            throw new IllegalArgumentException("newBudget arg is negative");
+        }
+        return new RetryPolicy(this.maxAttempts, this.attemptTimeout, this.backoff, newBudget, this.classifier);
+    }
+
+    /**
+     * Returns copy of this policy with given classifier.
+     *
+     * @param newClassifier the classifier
+     * @return copy of this policy with given classifier
+     * @throws NullPointerException if {@code newClassifier} is {@code null}
+     */
+    public RetryPolicy withClassifier(final Classifier newClassifier) {
+        Objects.requireNonNull(newClassifier, "newClassifier arg is null");
+        return new RetryPolicy(this.maxAttempts, this.attemptTimeout, this.backoff, this.budget, newClassifier);
+    }
+
+    /**
+     * Returns the max attempts including the first one.
+     *
+     * @return the max attempts
+     */
+    public int maxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * Returns the attempt timeout in nanoseconds or {@link Long#MAX_VALUE} if the attempt timeout is not set.
+     *
+     * @return the attempt timeout in nanoseconds
+     */
+    public long attemptTimeoutNanos() {
+        return this.attemptTimeout == null ? Long.MAX_VALUE : this.attemptTimeout.toNanos();
+    }
+
+    /**
+     * Returns the budget in nanoseconds or {@link Long#MAX_VALUE} if the budget is not set.
+     *
+     * @return the budget in nanoseconds
+     */
+    public long budgetNanos() {
+        if (this.budget != null) {
+            return this.budget.toNanos();
+        }
+        return this.backoff == null ? Long.MAX_VALUE : this.backoff.timeout().toNanos();
+    }
+
+    /**
+     * Returns delay in nanoseconds before given retry after the {@link Decision#RETRY_WITH_BACKOFF} decision.
+     *
+     * @param retryNumber the retry number starting from 0
+     * @return delay in nanoseconds
+     */
+    public long delayNanos(final int retryNumber) {
+        return this.backoff == null ? 0L : this.backoff.delayNanos(retryNumber);
+    }
+
+    /**
+     * Classifies given failure.
+     *
+     * @param failure the failure
+     * @return decision
+     */
+    public Decision classify(final Throwable failure) {
+        return Objects.requireNonNull(this.classifier.classify(failure), "classifier result is null");
+    }
+
+    /**
+     * Returns the default classifier.
+     *
+     * @return the default classifier
+     */
+    public static Classifier defaultClassifier() {
+        return DEFAULT_CLASSIFIER;
+    }
+
+    private static Decision defaultDecision(final Throwable failure) {
+        boolean webDriverFailure = false;
+        Throwable ex = failure;
+        for (int depth = 0; ex != null && depth < MAX_CAUSE_DEPTH; ++depth) {
+            if (ex instanceof StaleElementReferenceException || ex instanceof ElementClickInterceptedException) {
+                return Decision.RETRY_IMMEDIATELY;
+            }
+            if (ex instanceof JavascriptException) {
+                return Decision.FAIL;
+            }
+            webDriverFailure |= ex instanceof WebDriverException;
+            ex = ex.getCause() == ex ? null : ex.getCause();
+        }
+        return webDriverFailure ? Decision.RETRY_WITH_BACKOFF : Decision.FAIL;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + this.maxAttempts + ", attemptTimeout=" + this.attemptTimeout
+            + ", backoff=" + this.backoff
+            + ", budget=" + this.budget + "}";
+    }
+
+    /**
+     * Failure handling decision.
+     */
+    public enum Decision {
+
+        /**
+         * Fail without retries.
+         */
+        FAIL,
+
+        /**
+         * Retry immediately, the element is resolved again by the retry.
+         */
+        RETRY_IMMEDIATELY,
+
+        /**
+         * Retry after the backoff delay.
+         */
+        RETRY_WITH_BACKOFF
+    }
+
+    /**
+     * Failures classifier.
+     */
+    @FunctionalInterface
+    public interface Classifier {
+
+        /**
+         * Classifies given failure.
+         *
+         * @param failure the failure
+         * @return decision
+         */
+        Decision classify(Throwable failure);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.plugatar.selenidehacks.impl.RetryingOuterCommandOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Outer command that retries the origin outer command according to the {@link RetryPolicy}, so only the failed
+ * command is repeated instead of the whole test.
+ *
+ * <pre>{@code
+ * RetryingOuterCommand<Object> click = RetryingOuterCommand.of(
+ *     OuterCommand.of(new Click()),
+ *     RetryPolicy.of(3)
+ *         .withAttemptTimeout(ofSeconds(1))
+ *         .withBackoff(Backoff.of(ofMillis(100), ofSeconds(1), ofSeconds(5)))
+ * );
+ * click.executeOn(element);
+ * }</pre>
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public interface RetryingOuterCommand<T> extends OuterCommand<T> {
+
+    /**
+     * Returns the number of the origin command executions.
+     *
+     * @return the number of attempts
+     */
+    long attempts();
+
+    /**
+     * Returns the number of retries.
+     *
+     * @return the number of retries
+     */
+    long retries();
+
+    /**
+     * Returns the number of retries made without delay.
+     *
+     * @return the number of immediate retries
+     */
+    long immediateRetries();
+
+    /**
+     * Returns the number of executions failed after all allowed attempts.
+     *
+     * @return the number of failures
+     */
+    long failures();
+
+    /**
+     * Returns outer command retrying given outer command according to given policy.
+     *
+     * @param originCommand the origin outer command
+     * @param policy        the retry policy
+     * @param <T>           the command return type
+     * @return retrying outer command
+     * @throws NullPointerException if {@code originCommand} or {@code policy} is {@code null}
+     */
+    static <T> RetryingOuterCommand<T> of(final OuterCommand<T> originCommand,
+                                          final RetryPolicy policy) {
+        return new RetryingOuterCommandOf<>(originCommand, policy);
+    }
+}
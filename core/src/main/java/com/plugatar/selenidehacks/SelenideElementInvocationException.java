@@ -17,6 +17,7 @@
  */
 package com.plugatar.selenidehacks;
 
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
@@ -61,4 +62,19 @@ public class SelenideElementInvocationException extends RuntimeException {
                                               final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Ctor.
+     *
+     * @param message            the message
+     * @param cause              the cause
+     * @param enableSuppression  whether or not suppression is enabled or disabled
+     * @param writableStackTrace whether or not the stack trace should be writable
+     */
+    protected SelenideElementInvocationException(final String message,
+                                                 final @Nullable Throwable cause,
+                                                 final boolean enableSuppression,
+                                                 final boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
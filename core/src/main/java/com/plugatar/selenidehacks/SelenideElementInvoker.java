@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.SelenideElement;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Represents {@link SelenideElement} method resolved and bound once.
+ *
+ * @param <T> the method return type
+ */
+@ParametersAreNonnullByDefault
+@FunctionalInterface
+public interface SelenideElementInvoker<T> {
+
+    /**
+     * Invokes the bound method on given SelenideElement.
+     *
+     * @param element    the SelenideElement
+     * @param methodArgs the method arguments
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if arguments count does not match the method parameters count
+     */
+    T invokeOn(SelenideElement element,
+               Object... methodArgs);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.plugatar.selenidehacks.impl.MappedTraceRecorderOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.file.Path;
+
+/**
+ * {@link InvocationListener} that writes each invocation (name, method arguments, result or failure class,
+ * start offset and duration) to the compact binary trace file. The trace can be replayed by
+ * {@link TraceReplayer}.
+ *
+ * <pre>{@code
+ * TraceRecorder recorder = TraceRecorder.of(Paths.get("target/invocations.trace"));
+ * InvocationListeners.set(recorder);
+ * ...
+ * recorder.close();
+ * }</pre>
+ */
+@ParametersAreNonnullByDefault
+public interface TraceRecorder extends InvocationListener, AutoCloseable {
+
+    /**
+     * Stops recording and closes the trace file. Invocations after closing are ignored.
+     *
+     * @throws java.io.UncheckedIOException if an I/O error occurs
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns new TraceRecorder writing to given file. Existing file is overwritten.
+     *
+     * @param file the trace file
+     * @return new TraceRecorder
+     * @throws NullPointerException         if {@code file} is {@code null}
+     * @throws java.io.UncheckedIOException if an I/O error occurs
+     */
+    static TraceRecorder of(final Path file) {
+        return new MappedTraceRecorderOf(file);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.plugatar.selenidehacks.impl.TraceReplayerOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.file.Path;
+
+/**
+ * Replays invocations recorded by {@link TraceRecorder} against {@link UnsafeSelenideElement}. Arguments
+ * of types that cannot be restored from the trace (e.g. Conditions, Commands) are replayed as opaque
+ * placeholder objects, so the target is expected to be a stub element, e.g. for load reproduction
+ * or benchmarking.
+ */
+@ParametersAreNonnullByDefault
+public interface TraceReplayer {
+
+    /**
+     * Invokes recorded invocations one by one on given target. Failures of invocations recorded as failed
+     * are ignored, failures of other invocations are thrown.
+     *
+     * @param target      the target
+     * @param keepTiming  {@code true} to keep recorded start offsets between invocations,
+     *                    {@code false} to replay invocations as fast as possible
+     * @return replayed invocations count
+     * @throws SelenideElementInvocationException if {@code target} is {@code null}
+     * @throws java.io.UncheckedIOException       if an I/O error occurs
+     * @throws IllegalStateException              if the trace is malformed
+     */
+    long replayOn(UnsafeSelenideElement target, boolean keepTiming);
+
+    /**
+     * Returns new TraceReplayer of given trace file.
+     *
+     * @param file the trace file
+     * @return new TraceReplayer
+     * @throws NullPointerException if {@code file} is {@code null}
+     */
+    static TraceReplayer of(final Path file) {
+        return new TraceReplayerOf(file);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.impl.CachedLookupUnsafeSelenideElementOf;
+import com.plugatar.selenidehacks.impl.ReadCachingUnsafeSelenideElementOf;
+import com.plugatar.selenidehacks.impl.SelenideElementInvokerOf;
+import com.plugatar.selenidehacks.impl.UnsafeSelenideElementOf;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Represents an object that provides access to {@link SelenideElement}
+ * by method name and method arguments.
+ *
+ * @see SelenideElement
+ * @see Proxy
+ */
+@ParametersAreNonnullByDefault
+public interface UnsafeSelenideElement {
+
+    /**
+     * Invokes {@link SelenideElement} method by given name and arguments.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments that will be forwarded to the invoked method
+     * @param <ANY>      the method return type
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code methodName} is null
+     *                                            of if method not found
+     */
+    <ANY> ANY invoke(String methodName,
+                     Object... methodArgs);
+
+    /**
+     * Invokes {@link SelenideElement} method by given name without arguments.
+     *
+     * @param methodName the method name
+     * @param <ANY>      the method return type
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code methodName} is null
+     *                                            of if method not found
+     */
+    default <ANY> ANY invoke0(final String methodName) {
+        return this.invoke(methodName);
+    }
+
+    /**
+     * Invokes {@link SelenideElement} method by given name and one argument. Unlike
+     * {@link #invoke(String, Object...)}, an array argument is not treated as arguments array.
+     *
+     * @param methodName the method name
+     * @param arg        the method argument
+     * @param <ANY>      the method return type
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code methodName} is null
+     *                                            of if method not found
+     */
+    default <ANY> ANY invoke1(final String methodName,
+                              final Object arg) {
+        return this.invoke(methodName, new Object[]{arg});
+    }
+
+    /**
+     * Invokes {@link SelenideElement} method by given name and two arguments.
+     *
+     * @param methodName the method name
+     * @param arg1       the method first argument
+     * @param arg2       the method second argument
+     * @param <ANY>      the method return type
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code methodName} is null
+     *                                            of if method not found
+     */
+    default <ANY> ANY invoke2(final String methodName,
+                              final Object arg1,
+                              final Object arg2) {
+        return this.invoke(methodName, arg1, arg2);
+    }
+
+    /**
+     * Invokes {@link SelenideElement} method by given name and three arguments.
+     *
+     * @param methodName the method name
+     * @param arg1       the method first argument
+     * @param arg2       the method second argument
+     * @param arg3       the method third argument
+     * @param <ANY>      the method return type
+     * @return the value that returned by method invoking
+     * @throws SelenideElementInvocationException if {@code methodName} is null
+     *                                            of if method not found
+     */
+    default <ANY> ANY invoke3(final String methodName,
+                              final Object arg1,
+                              final Object arg2,
+                              final Object arg3) {
+        return this.invoke(methodName, arg1, arg2, arg3);
+    }
+
+    /**
+     * Executes given command via {@link SelenideElement#execute(Command)} method.
+     *
+     * @param command the command
+     * @param <R>     the command return type
+     * @return the command returned value
+     */
+    default <R> R execute(final Command<R> command) {
+        return this.invoke1("execute", command);
+    }
+
+    /**
+     * Executes given command via {@link SelenideElement#execute(Command, Duration)} method.
+     *
+     * @param command the command
+     * @param timeout the timeout
+     * @param <R>     the command return type
+     * @return the command returned value
+     */
+    default <R> R execute(final Command<R> command,
+                          final Duration timeout) {
+        return this.invoke2("execute", command, timeout);
+    }
+
+    /**
+     * Returns wrapped SelenideElement.
+     *
+     * @return wrapped SelenideElement
+     */
+    SelenideElement asSelenideElement();
+
+    /**
+     * Returns UnsafeSelenideElement of given SelenideElement.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link Proxy}
+     * @return UnsafeSelenideElement of given SelenideElement
+     * @throws NullPointerException     if {@code element} is {@code null}
+     * @throws IllegalArgumentException if {@code element} is not the {@link SelenideElement} instantiated
+     *                                  as a {@link Proxy}
+     */
+    static UnsafeSelenideElement of(final SelenideElement element) {
+        return new UnsafeSelenideElementOf(element);
+    }
+
+    /**
+     * Returns CachingUnsafeSelenideElement of given SelenideElement. The WebElement is resolved once
+     * and reused until it goes stale.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link Proxy}
+     * @return CachingUnsafeSelenideElement of given SelenideElement
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a Proxy
+     */
+    static CachingUnsafeSelenideElement cachedLookup(final SelenideElement element) {
+        return new CachedLookupUnsafeSelenideElementOf(element);
+    }
+
+    /**
+     * Returns CachingUnsafeSelenideElement that memoizes results of read-only methods of given
+     * UnsafeSelenideElement. The cache is dropped on any other method invocation or when TTL expires.
+     *
+     * @param origin the origin UnsafeSelenideElement
+     * @param ttl    the cached results time to live
+     * @return read caching UnsafeSelenideElement
+     * @throws NullPointerException     if {@code origin} or {@code ttl} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     * @see ReadCachingUnsafeSelenideElementOf#DEFAULT_READ_METHODS
+     */
+    static CachingUnsafeSelenideElement readCaching(final UnsafeSelenideElement origin,
+                                                    final Duration ttl) {
+        return new ReadCachingUnsafeSelenideElementOf(origin, ttl);
+    }
+
+    /**
+     * Returns CachingUnsafeSelenideElement that memoizes results of given read-only methods of given
+     * UnsafeSelenideElement. The cache is dropped on any other method invocation or when TTL expires.
+     *
+     * @param origin      the origin UnsafeSelenideElement
+     * @param ttl         the cached results time to live
+     * @param readMethods the read-only methods names
+     * @return read caching UnsafeSelenideElement
+     * @throws NullPointerException     if {@code origin} or {@code ttl} or {@code readMethods} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    static CachingUnsafeSelenideElement readCaching(final UnsafeSelenideElement origin,
+                                                    final Duration ttl,
+                                                    final Set<String> readMethods) {
+        return new ReadCachingUnsafeSelenideElementOf(origin, ttl, readMethods);
+    }
+
+    /**
+     * Returns SelenideElementInvoker of given method name and parameter types.
+     *
+     * @param methodName     the method name
+     * @param parameterTypes the method parameter types
+     * @param <ANY>          the method return type
+     * @return SelenideElementInvoker of given method name and parameter types
+     * @throws NullPointerException               if {@code methodName} or {@code parameterTypes} is {@code null}
+     * @throws SelenideElementInvocationException if method not found
+     */
+    static <ANY> SelenideElementInvoker<ANY> invoker(final String methodName,
+                                                     final Class<?>... parameterTypes) {
+        return new SelenideElementInvokerOf<>(methodName, parameterTypes);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.Backoff;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.openqa.selenium.WebDriverException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command with custom arguments that waits for the origin command success polling it with the backoff policy,
+ * e.g. for {@code com.codeborne.selenide.commands.Should} based commands.
+ *
+ * <p>The origin command is repeated on the same failures as Selenide repeats ({@link AssertionError},
+ * {@link WebDriverException} and {@link IndexOutOfBoundsException}), the last failure is thrown when the
+ * backoff timeout is reached. Execute this command with zero timeout, e.g.
+ * {@code element.execute(command, Duration.ZERO)}, so that Selenide does not repeat the whole waiting.</p>
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public class BackoffCommandOf<T> implements Command<T> {
+    private final Backoff backoff;
+    private final Command<? extends T> originCommand;
+    private final Object[] commandArgs;
+    private final LongAdder polls = new LongAdder();
+
+    /**
+     * Ctor.
+     *
+     * @param backoff       the backoff policy
+     * @param originCommand the origin command
+     * @param commandArgs   the command arguments
+     * @throws NullPointerException if {@code backoff} or {@code originCommand} is null
+     */
+    public BackoffCommandOf(final Backoff backoff,
+                            final Command<? extends T> originCommand,
+                            final @Nullable Object... commandArgs) {
+        this.backoff = Objects.requireNonNull(backoff, "backoff arg is null");
+        this.originCommand = Objects.requireNonNull(originCommand, "originCommand arg is null");
+        this.commandArgs = commandArgs;
+    }
+
+    /**
+     * Returns the origin command.
+     *
+     * @return the origin command
+     */
+    final Command<? extends T> originCommand() {
+        return this.originCommand;
+    }
+
+    /**
+     * Returns the number of the origin command executions made by this command.
+     *
+     * @return the number of polls
+     */
+    public final long polls() {
+        return this.polls.sum();
+    }
+
+    @Override
+    public final T execute(final SelenideElement proxy,
+                           final WebElementSource locator,
+                           final @Nullable Object[] ignoredArgs) throws IOException {
+        final long start = System.nanoTime();
+        final long timeoutNanos = this.backoff.timeout().toNanos();
+        for (int retryNumber = 0; ; ++retryNumber) {
+            this.polls.increment();
+            try {
+                return this.originCommand.execute(proxy, locator, this.commandArgs);
+            } catch (final AssertionError | WebDriverException | IndexOutOfBoundsException ex) {
+                final long remainingNanos = timeoutNanos - (System.nanoTime() - start);
+                if (remainingNanos <= 0L) {
+                    throw ex;
+                }
+                sleep(Math.min(remainingNanos, this.backoff.delayNanos(retryNumber)));
+            }
+        }
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SelenideElementInvocationException("Interrupted while waiting", ex);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.impl.CollectionSource;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class that executes read-only {@link com.codeborne.selenide.SelenideElement} methods
+ * on the whole {@link ElementsCollection} in a single JavaScript call.
+ *
+ * <p>Supported methods and their JavaScript equivalents:</p>
+ * <ul>
+ * <li>{@code getText()}, {@code innerText()} - {@code element.innerText}</li>
+ * <li>{@code innerHtml()} - {@code element.innerHTML}</li>
+ * <li>{@code getValue()}, {@code val()} - {@code element.value}</li>
+ * <li>{@code getAttribute(String)} - {@code "true"} or {@code null} for boolean attributes ({@code checked} and
+ * {@code selected} are read from the live properties), the live property value if the element has the property
+ * of a primitive type (e.g. {@code value}, {@code href}), otherwise {@code element.getAttribute(name)}</li>
+ * <li>{@code getTagName()} - lower case {@code element.tagName}</li>
+ * <li>{@code isDisplayed()} - neither the element nor its ancestors have {@code display: none} or zero
+ * {@code opacity}, the element has no {@code visibility: hidden} or {@code visibility: collapse}, is not a hidden
+ * input and has layout boxes; options are displayed if their select is displayed</li>
+ * </ul>
+ *
+ * <p>The equivalents are close but not identical to the WebDriver implementations, e.g. the text
+ * of an element is not normalized by the WebDriver rules.</p>
+ */
+@ParametersAreNonnullByDefault
+final class BulkScripts {
+    private static final String FUNCTIONS = ""
+        + "function attribute(e, n) {"
+        + " var l = n.toLowerCase();"
+        + " if (l === 'checked' || l === 'selected') { return e[l] === true ? 'true' : null; }"
+        + " if (BOOLEAN_ATTRIBUTES.indexOf(l) >= 0) { return e.hasAttribute(n) || e[l] === true ? 'true' : null; }"
+        + " if (l === 'style') { return e.getAttribute(n); }"
+        + " var p = e[n];"
+        + " if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function') {"
+        + " return String(p); }"
+        + " return e.getAttribute(n);"
+        + "}"
+        + "function displayed(e) {"
+        + " var tag = e.tagName.toLowerCase();"
+        + " if (tag === 'option' || tag === 'optgroup') {"
+        + " var select = e.closest('select'); return select === null || displayed(select); }"
+        + " if (tag === 'input' && String(e.type).toLowerCase() === 'hidden') { return false; }"
+        + " for (var n = e; n !== null && n.nodeType === 1; n = n.parentElement) {"
+        + " var s = window.getComputedStyle(n);"
+        + " if (s.display === 'none' || parseFloat(s.opacity) === 0) { return false; } }"
+        + " var v = window.getComputedStyle(e).visibility;"
+        + " if (v === 'hidden' || v === 'collapse') { return false; }"
+        + " return !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);"
+        + "}";
+    private static final String BOOLEAN_ATTRIBUTES = "var BOOLEAN_ATTRIBUTES = ['async', 'autofocus', 'autoplay',"
+        + " 'compact', 'complete', 'controls', 'declare', 'defaultchecked', 'defaultselected', 'defer', 'disabled',"
+        + " 'draggable', 'ended', 'formnovalidate', 'hidden', 'indeterminate', 'iscontenteditable', 'ismap',"
+        + " 'itemscope', 'loop', 'multiple', 'muted', 'nohref', 'noresize', 'noshade', 'novalidate', 'nowrap', 'open',"
+        + " 'paused', 'pubdate', 'readonly', 'required', 'reversed', 'scoped', 'seamless', 'seeking', 'truespeed',"
+        + " 'willvalidate'];";
+    private static final Map<String, String> NO_ARGS_EXPRESSIONS;
+    private static final Map<String, String> ONE_ARG_EXPRESSIONS;
+    private static final Field COLLECTION_SOURCE_FIELD = collectionSourceField();
+
+    static {
+        final Map<String, String> noArgs = new HashMap<>();
+        noArgs.put("getText", "(e.innerText || '').trim()");
+        noArgs.put("innerText", "e.innerText");
+        noArgs.put("innerHtml", "e.innerHTML");
+        noArgs.put("getValue", "e.value");
+        noArgs.put("val", "e.value");
+        noArgs.put("getTagName", "e.tagName.toLowerCase()");
+        noArgs.put("isDisplayed", "displayed(e)");
+        NO_ARGS_EXPRESSIONS = noArgs;
+        final Map<String, String> oneArg = new HashMap<>();
+        oneArg.put("getAttribute", "attribute(e, arguments[1])");
+        ONE_ARG_EXPRESSIONS = oneArg;
+    }
+
+    /**
+     * Utility class ctor.
+     */
+    private BulkScripts() {
+    }
+
+    /**
+     * Executes given method on each element of given collection in a single JavaScript call.
+     *
+     * @param elements   the elements collection
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @param <T>        the method return type
+     * @return results in the document order or {@code null} if given method has no JavaScript equivalent
+     * @throws SelenideElementInvocationException if {@code elements} is {@code null}
+     */
+    @Nullable
+    static <T> List<T> executeOnAll(final @Nullable ElementsCollection elements,
+                                    final String methodName,
+                                    final @Nullable Object[] methodArgs) {
+        if (elements == null) { throw ValidationErrors.error("elements arg is null"); }
+        final String expression = expression(methodName, methodArgs);
+        if (expression == null || COLLECTION_SOURCE_FIELD == null) {
+            return null;
+        }
+        final CollectionSource source;
+        try {
+            source = (CollectionSource) COLLECTION_SOURCE_FIELD.get(elements);
+        } catch (final IllegalAccessException ex) {
+            return null;
+        }
+        final List<WebElement> webElements = source.getElements();
+        if (webElements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final String script = BOOLEAN_ATTRIBUTES + FUNCTIONS
+            + "var elements = arguments[0], results = [];"
+            + "for (var i = 0; i < elements.length; i++) { var e = elements[i]; results.push(" + expression + "); }"
+            + "return results;";
+        final Object argument = methodArgs == null || methodArgs.length == 0 ? null : methodArgs[0];
+        final List<T> results = source.driver().executeJavaScript(script, webElements, argument);
+        return results == null ? new ArrayList<>() : new ArrayList<>(results);
+    }
+
+    @Nullable
+    private static String expression(final String methodName,
+                                     final @Nullable Object[] methodArgs) {
+        final int argsCount = methodArgs == null ? 0 : methodArgs.length;
+        if (argsCount == 0) {
+            return NO_ARGS_EXPRESSIONS.get(methodName);
+        }
+        if (argsCount == 1 && methodArgs[0] instanceof String) {
+            return ONE_ARG_EXPRESSIONS.get(methodName);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Field collectionSourceField() {
+        try {
+            final Field field = ElementsCollection.class.getDeclaredField("collection");
+            field.setAccessible(true);
+            return CollectionSource.class.isAssignableFrom(field.getType()) ? field : null;
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.plugatar.selenidehacks.CachingUnsafeSelenideElement;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Proxy;
+
+/**
+ * Default implementation of {@link CachingUnsafeSelenideElement}.
+ *
+ * <p>The origin element locator is wrapped into the caching source and a new {@link SelenideElement}
+ * {@link Proxy} is created for it, so Selenide waits, conditions and error messages remain the same.
+ * The cached element is dropped as soon as any of its methods fails with
+ * {@link StaleElementReferenceException}. If the invocation still fails because of stale element,
+ * the invocation is repeated once with a freshly resolved element.</p>
+ */
+@ParametersAreNonnullByDefault
+public class CachedLookupUnsafeSelenideElementOf implements CachingUnsafeSelenideElement {
+    private final CachedWebElementSource source;
+    private final UnsafeSelenideElementOf cachedElement;
+
+    /**
+     * Ctor.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link Proxy}
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a Proxy
+     */
+    public CachedLookupUnsafeSelenideElementOf(final SelenideElement element) {
+        this.source = new CachedWebElementSource(WebElementSources.of(element), true);
+        this.cachedElement = new UnsafeSelenideElementOf(ElementFinder.wrap(SelenideElement.class, this.source));
+    }
+
+    @Override
+    public final <ANY> ANY invoke(final String methodName,
+                                  final Object... methodArgs) {
+        try {
+            return this.cachedElement.invoke(methodName, methodArgs);
+        } catch (final RuntimeException | Error ex) {
+            if (!isStale(ex)) {
+                throw ex;
+            }
+            this.source.invalidate();
+            return this.cachedElement.invoke(methodName, methodArgs);
+        }
+    }
+
+    @Override
+    public final void invalidate() {
+        this.source.invalidate();
+    }
+
+    @Override
+    public final SelenideElement asSelenideElement() {
+        return this.cachedElement.asSelenideElement();
+    }
+
+    private static boolean isStale(final Throwable throwable) {
+        int depth = 0;
+        for (Throwable current = throwable; current != null && depth < 16; current = current.getCause(), ++depth) {
+            if (current instanceof StaleElementReferenceException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
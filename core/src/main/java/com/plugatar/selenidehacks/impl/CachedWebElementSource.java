@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.impl.Alias;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Objects;
+
+/**
+ * {@link WebElementSource} that resolves the {@link WebElement} through the origin source once
+ * and reuses it until {@link #invalidate()} is called.
+ *
+ * <p>In stale-aware mode the cached element is decorated by {@link StaleAwareWebElement}, so the cache
+ * is dropped automatically when the element goes stale.</p>
+ */
+@ParametersAreNonnullByDefault
+final class CachedWebElementSource extends WebElementSource {
+    private final WebElementSource origin;
+    private final boolean staleAware;
+    private volatile WebElement cachedElement = null;
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin source
+     * @throws NullPointerException if {@code origin} is {@code null}
+     */
+    CachedWebElementSource(final WebElementSource origin) {
+        this(origin, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin     the origin source
+     * @param staleAware the stale-aware mode flag
+     * @throws NullPointerException if {@code origin} is {@code null}
+     */
+    CachedWebElementSource(final WebElementSource origin,
+                           final boolean staleAware) {
+        this.origin = Objects.requireNonNull(origin, "origin arg is null");
+        this.staleAware = staleAware;
+    }
+
+    /**
+     * Drops the cached element, the next {@link #getWebElement()} call resolves it again.
+     */
+    void invalidate() {
+        this.cachedElement = null;
+    }
+
+    @Override
+    public WebElement getWebElement() {
+        WebElement element = this.cachedElement;
+        if (element == null) {
+            final WebElement originElement = this.origin.getWebElement();
+            element = this.staleAware ? new StaleAwareWebElement(originElement, this) : originElement;
+            this.cachedElement = element;
+        }
+        return element;
+    }
+
+    @Override
+    public Driver driver() {
+        return this.origin.driver();
+    }
+
+    @Override
+    public String getSearchCriteria() {
+        return this.origin.getSearchCriteria();
+    }
+
+    @Override
+    public void setAlias(final String alias) {
+        this.origin.setAlias(alias);
+    }
+
+    @Override
+    public Alias getAlias() {
+        return this.origin.getAlias();
+    }
+
+    @Override
+    public String description() {
+        return this.origin.description();
+    }
+
+    @Override
+    public ElementNotFound createElementNotFoundError(final Condition condition,
+                                                      final @Nullable Throwable cause) {
+        return this.origin.createElementNotFoundError(condition, cause);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CommandPipeline;
+import com.plugatar.selenidehacks.OuterCommand;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command pipeline implementation executing runs of consecutive commands of the same element via
+ * {@link FusedCommandOf}. Single command runs and outer commands are executed as is.
+ */
+@ParametersAreNonnullByDefault
+public class CommandPipelineOf implements CommandPipeline {
+    private final int flushThreshold;
+    private final Deque<Entry> queue = new ArrayDeque<>();
+
+    /**
+     * Ctor.
+     *
+     * @param flushThreshold the number of queued commands that triggers the flush
+     * @throws IllegalArgumentException if {@code flushThreshold} is less than 1
+     */
+    public CommandPipelineOf(final int flushThreshold) {
+        if (flushThreshold < 1) {
+            throw new IllegalArgumentException("flushThreshold arg is less than 1");
+        }
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public final CommandPipeline enqueue(final @Nullable SelenideElement element,
+                                         final Command<?> command) {
+        Objects.requireNonNull(command, "command arg is null");
+        return this.enqueue(new Entry(checkedElement(element), command, null));
+    }
+
+    @Override
+    public final CommandPipeline enqueue(final @Nullable SelenideElement element,
+                                         final OuterCommand<?> outerCommand) {
+        Objects.requireNonNull(outerCommand, "outerCommand arg is null");
+        return this.enqueue(new Entry(checkedElement(element), null, outerCommand));
+    }
+
+    @Override
+    public final <T> T executeOn(final @Nullable SelenideElement element,
+                                 final Command<? extends T> command) {
+        Objects.requireNonNull(command, "command arg is null");
+        return this.executeOn(new Entry(checkedElement(element), command, null));
+    }
+
+    @Override
+    public final <T> T executeOn(final @Nullable SelenideElement element,
+                                 final OuterCommand<? extends T> outerCommand) {
+        Objects.requireNonNull(outerCommand, "outerCommand arg is null");
+        return this.executeOn(new Entry(checkedElement(element), null, outerCommand));
+    }
+
+    @Override
+    public final void flush() {
+        this.flushQueue();
+    }
+
+    @Override
+    public final int pendingCount() {
+        return this.queue.size();
+    }
+
+    private CommandPipeline enqueue(final Entry entry) {
+        this.queue.addLast(entry);
+        if (this.queue.size() >= this.flushThreshold) {
+            this.flushQueue();
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T executeOn(final Entry entry) {
+        this.queue.addLast(entry);
+        try {
+            return (T) this.flushQueue();
+        } finally {
+            if (this.queue.peekLast() == entry) {
+                this.queue.pollLast();
+            }
+        }
+    }
+
+    /**
+     * Executes queued entries in the queueing order.
+     *
+     * @return the last entry result
+     */
+    @Nullable
+    private Object flushQueue() {
+        Object lastResult = null;
+        while (!this.queue.isEmpty()) {
+            final Entry first = this.queue.pollFirst();
+            if (first.outerCommand != null) {
+                lastResult = first.outerCommand.executeOn(first.element);
+                continue;
+            }
+            final List<Command<?>> run = new ArrayList<>();
+            run.add(first.command);
+            while (!this.queue.isEmpty() && this.queue.peekFirst().command != null
+                && this.queue.peekFirst().element == first.element) {
+                run.add(this.queue.pollFirst().command);
+            }
+            if (run.size() == 1) {
+                lastResult = new OuterCommandOf<>(first.command).executeOn(first.element);
+            } else {
+                final List<Object> results = new FusedCommandOf(run).executeOn(first.element);
+                lastResult = results.get(results.size() - 1);
+            }
+        }
+        return lastResult;
+    }
+
+    private static SelenideElement checkedElement(final @Nullable SelenideElement element) {
+        Invocations.handlerOf(element);
+        return element;
+    }
+
+    /**
+     * Queued command or outer command of the element.
+     */
+    private static final class Entry {
+        private final SelenideElement element;
+        @Nullable
+        private final Command<?> command;
+        @Nullable
+        private final OuterCommand<?> outerCommand;
+
+        private Entry(final SelenideElement element,
+                      final @Nullable Command<?> command,
+                      final @Nullable OuterCommand<?> outerCommand) {
+            this.element = element;
+            this.command = command;
+            this.outerCommand = outerCommand;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CommandScript;
+import com.plugatar.selenidehacks.OuterCommand;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Command script implementation executing steps as {@link PreparedOuterCommandOf}s.
+ */
+@ParametersAreNonnullByDefault
+public class CommandScriptOf implements CommandScript {
+    static final int MAX_CACHED_SCRIPTS = 1024;
+    private static final Map<String, CommandScriptOf> CACHE =
+        new LinkedHashMap<String, CommandScriptOf>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CommandScriptOf> eldest) {
+                return this.size() > MAX_CACHED_SCRIPTS;
+            }
+        };
+    private final String text;
+    private final List<OuterCommand<?>> steps;
+
+    /**
+     * Ctor. Compiles given script without caching.
+     *
+     * @param script the script text
+     * @throws NullPointerException                                         if {@code script} is {@code null}
+     * @throws com.plugatar.selenidehacks.SelenideElementInvocationException if {@code script} has syntax error
+     *                                                                      or if method or condition is not found
+     */
+    public CommandScriptOf(final String script) {
+        this.text = Objects.requireNonNull(script, "script arg is null");
+        this.steps = Collections.unmodifiableList(new ScriptParser(script).parse());
+    }
+
+    /**
+     * Returns compiled script of given text from the cache. Up to {@value #MAX_CACHED_SCRIPTS} scripts are
+     * cached, the least recently used script is evicted when the cache is full. The script is compiled
+     * outside the cache lock.
+     *
+     * @param script the script text
+     * @return compiled script
+     * @throws NullPointerException                                         if {@code script} is {@code null}
+     * @throws com.plugatar.selenidehacks.SelenideElementInvocationException if {@code script} has syntax error
+     *                                                                      or if method or condition is not found
+     */
+    public static CommandScriptOf cached(final String script) {
+        Objects.requireNonNull(script, "script arg is null");
+        synchronized (CACHE) {
+            final CommandScriptOf compiled = CACHE.get(script);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        final CommandScriptOf compiled = new CommandScriptOf(script);
+        synchronized (CACHE) {
+            final CommandScriptOf existing = CACHE.putIfAbsent(script, compiled);
+            return existing == null ? compiled : existing;
+        }
+    }
+
+    @Override
+    public final String text() {
+        return this.text;
+    }
+
+    @Override
+    public final List<OuterCommand<?>> steps() {
+        return this.steps;
+    }
+
+    @Override
+    public final List<Object> executeOn(final SelenideElement element) {
+        final List<Object> results = new ArrayList<>(this.steps.size());
+        for (final OuterCommand<?> step : this.steps) {
+            results.add(step.executeOn(element));
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandScript{" + this.text + "}";
+    }
+}
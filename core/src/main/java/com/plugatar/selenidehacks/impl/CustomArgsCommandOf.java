@@ -49,6 +49,25 @@ public class CustomArgsCommandOf<T> implements Command<T> {
         this.commandArgs = commandArgs;
     }
 
+    /**
+     * Returns the origin command.
+     *
+     * @return the origin command
+     */
+    final Command<? extends T> originCommand() {
+        return this.originCommand;
+    }
+
+    /**
+     * Returns the command arguments.
+     *
+     * @return the command arguments
+     */
+    @Nullable
+    final Object[] commandArgs() {
+        return this.commandArgs;
+    }
+
     @Override
     public final T execute(final SelenideElement proxy,
                            final WebElementSource locator,
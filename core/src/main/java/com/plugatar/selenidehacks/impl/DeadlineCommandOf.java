@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.Deadline;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Command with custom arguments bounded by the deadline.
+ *
+ * <p>Before each execution {@link Duration} arguments are replaced with the smallest of the argument and the
+ * remaining time. If the deadline is exceeded, the command fails with {@link SelenideElementInvocationException}
+ * without executing the origin command. This exception is not retried by Selenide, so the Selenide waiting loop
+ * of the command ends at the first attempt after the deadline.</p>
+ *
+ * <p>If the element is instantiated as a {@link Proxy}, the origin command gets the element bounded by the deadline:
+ * its methods having an overload with the trailing {@link Duration} parameter (e.g. {@code should(Condition...)},
+ * {@code shouldHave(Condition...)}, {@code execute(Command)}) are invoked with the smallest of the Selenide
+ * configured timeout and the remaining time as the timeout (each condition separately), so the deadline never
+ * prolongs the configured waiting. {@link Duration} arguments of its methods are capped by the remaining time.
+ * Methods without such overload (e.g. {@code click()}) wait as configured in Selenide.</p>
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public class DeadlineCommandOf<T> implements Command<T> {
+    private final Deadline deadline;
+    private final Command<? extends T> originCommand;
+    private final Object[] commandArgs;
+    private final boolean hasDurationArgs;
+
+    /**
+     * Ctor.
+     *
+     * @param deadline      the deadline
+     * @param originCommand the origin command
+     * @param commandArgs   the command arguments
+     * @throws NullPointerException if {@code deadline} or {@code originCommand} is null
+     */
+    public DeadlineCommandOf(final Deadline deadline,
+                             final Command<? extends T> originCommand,
+                             final @Nullable Object... commandArgs) {
+        this.deadline = Objects.requireNonNull(deadline, "deadline arg is null");
+        this.originCommand = Objects.requireNonNull(originCommand, "originCommand arg is null");
+        this.commandArgs = commandArgs;
+        this.hasDurationArgs = hasDuration(commandArgs);
+    }
+
+    /**
+     * Returns the origin command.
+     *
+     * @return the origin command
+     */
+    final Command<? extends T> originCommand() {
+        return this.originCommand;
+    }
+
+    /**
+     * Returns the deadline.
+     *
+     * @return the deadline
+     */
+    public final Deadline deadline() {
+        return this.deadline;
+    }
+
+    @Override
+    public final T execute(final SelenideElement proxy,
+                           final WebElementSource locator,
+                           final @Nullable Object[] ignoredArgs) throws IOException {
+        if (this.deadline.isExceeded()) {
+            throw new SelenideElementInvocationException(
+                "Deadline exceeded before " + this.originCommand.getClass().getName() + " execution");
+        }
+        return this.originCommand.execute(
+            this.bounded(proxy, locator), locator, this.hasDurationArgs ? this.cappedArgs() : this.commandArgs
+        );
+    }
+
+    private SelenideElement bounded(final SelenideElement proxy,
+                                    final WebElementSource locator) {
+        if (!Invocations.isProxy(proxy)) {
+            return proxy;
+        }
+        final Class<?> proxyClass = proxy.getClass();
+        return (SelenideElement) Proxy.newProxyInstance(
+            proxyClass.getClassLoader(),
+            proxyClass.getInterfaces(),
+            new DeadlineHandler(this.deadline, configuredTimeout(locator), proxy, Invocations.handlerOf(proxy),
+                MethodIndex.of(proxyClass))
+        );
+    }
+
+    private static Duration configuredTimeout(final WebElementSource locator) {
+        final Driver driver = locator.driver();
+        return Duration.ofMillis(driver == null ? Configuration.timeout : driver.config().timeout());
+    }
+
+    private Object[] cappedArgs() {
+        final Object[] args = this.commandArgs.clone();
+        for (int idx = 0; idx < args.length; ++idx) {
+            if (args[idx] instanceof Duration) {
+                args[idx] = this.deadline.cap((Duration) args[idx]);
+            }
+        }
+        return args;
+    }
+
+    private static boolean hasDuration(final @Nullable Object[] args) {
+        if (args != null) {
+            for (final Object arg : args) {
+                if (arg instanceof Duration) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invocation handler of the element bounded by the deadline.
+     */
+    private static final class DeadlineHandler implements InvocationHandler {
+        private final Deadline deadline;
+        private final Duration configuredTimeout;
+        private final SelenideElement origin;
+        private final InvocationHandler originHandler;
+        private final MethodIndex methodIndex;
+
+        private DeadlineHandler(final Deadline deadline,
+                                final Duration configuredTimeout,
+                                final SelenideElement origin,
+                                final InvocationHandler originHandler,
+                                final MethodIndex methodIndex) {
+            this.deadline = deadline;
+            this.configuredTimeout = configuredTimeout;
+            this.origin = origin;
+            this.originHandler = originHandler;
+            this.methodIndex = methodIndex;
+        }
+
+        @Override
+        public Object invoke(final Object proxy,
+                             final Method method,
+                             final @Nullable Object[] args) throws Throwable {
+            final Object result = this.invokeOrigin(method, args);
+            return result == this.origin ? proxy : result;
+        }
+
+        private Object invokeOrigin(final Method method,
+                                    final @Nullable Object[] args) throws Throwable {
+            final Class<?>[] types = method.getParameterTypes();
+            final int lastIdx = types.length - 1;
+            if (lastIdx >= 0 && types[lastIdx] == Duration.class) {
+                if (!(args[lastIdx] instanceof Duration)) {
+                    return this.originHandler.invoke(this.origin, method, args);
+                }
+                final Object[] cappedArgs = args.clone();
+                cappedArgs[lastIdx] = this.deadline.cap((Duration) args[lastIdx]);
+                return this.originHandler.invoke(this.origin, method, cappedArgs);
+            }
+            final Class<?>[] timedTypes = Arrays.copyOf(types, types.length + 1);
+            timedTypes[types.length] = Duration.class;
+            final Method timedMethod = this.methodIndex.find(method.getName(), timedTypes);
+            if (timedMethod != null) {
+                final Object[] timedArgs = args == null ? new Object[1] : Arrays.copyOf(args, args.length + 1);
+                timedArgs[types.length] = this.deadline.cap(this.configuredTimeout);
+                return this.originHandler.invoke(this.origin, timedMethod, timedArgs);
+            }
+            if (method.isVarArgs() && lastIdx == 0 && args[0] != null) {
+                timedTypes[0] = types[0].getComponentType();
+                final Method timedEachMethod = this.methodIndex.find(method.getName(), timedTypes);
+                if (timedEachMethod != null) {
+                    Object result = this.origin;
+                    for (final Object arg : (Object[]) args[0]) {
+                        result = this.originHandler.invoke(
+                            this.origin, timedEachMethod, new Object[]{arg, this.deadline.cap(this.configuredTimeout)}
+                        );
+                    }
+                    return result;
+                }
+            }
+            return this.originHandler.invoke(this.origin, method, args);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.FanOut;
+import com.plugatar.selenidehacks.FanOutReport;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Default implementation of {@link FanOut}.
+ *
+ * <p>Targets are grouped by session. At most {@code maxConcurrentSessions} groups are in progress at the same
+ * time, each group is executed on its session executor (see {@link SessionExecutors}) and starts the next
+ * pending group on completion, so no thread is blocked waiting for a permit.</p>
+ */
+@ParametersAreNonnullByDefault
+public class FanOutOf implements FanOut {
+    private final int maxConcurrentSessions;
+
+    /**
+     * Ctor.
+     *
+     * @param maxConcurrentSessions the maximum number of concurrently processed sessions
+     * @throws IllegalArgumentException if {@code maxConcurrentSessions} is less than 1
+     */
+    public FanOutOf(final int maxConcurrentSessions) {
+        if (maxConcurrentSessions < 1) {
+            throw new IllegalArgumentException("maxConcurrentSessions arg is less than 1");
+        }
+        this.maxConcurrentSessions = maxConcurrentSessions;
+    }
+
+    @Override
+    public final <T> FanOutReport<T> execute(final List<? extends OuterCommand<? extends T>> commands,
+                                             final List<? extends SelenideElement> targets) {
+        final List<OuterCommand<? extends T>> commandsCopy = new ArrayList<>(
+            Objects.requireNonNull(commands, "commands arg is null"));
+        for (final OuterCommand<? extends T> command : commandsCopy) {
+            Objects.requireNonNull(command, "commands arg contains null");
+        }
+        final List<SelenideElement> targetsCopy = new ArrayList<>(Objects.requireNonNull(targets, "targets arg is null"));
+        final Map<Driver, List<Integer>> groups = new LinkedHashMap<>();
+        for (int idx = 0; idx < targetsCopy.size(); ++idx) {
+            final SelenideElement target = Objects.requireNonNull(targetsCopy.get(idx), "targets arg contains null");
+            groups.computeIfAbsent(SessionExecutors.driverOf(target), driver -> new ArrayList<>()).add(idx);
+        }
+
+        final long start = System.nanoTime();
+        @SuppressWarnings("unchecked") final FanOutReport.Entry<T>[] entries = new FanOutReport.Entry[targetsCopy.size()];
+        final Queue<Map.Entry<Driver, List<Integer>>> pendingGroups = new ConcurrentLinkedQueue<>(groups.entrySet());
+        final CountDownLatch completedGroups = new CountDownLatch(groups.size());
+        final Runnable startNextGroup = new Runnable() {
+            @Override
+            public void run() {
+                final Map.Entry<Driver, List<Integer>> group = pendingGroups.poll();
+                if (group != null) {
+                    SessionExecutors.ofDriver(group.getKey()).execute(() -> {
+                        try {
+                            for (final int idx : group.getValue()) {
+                                entries[idx] = executeOnTarget(commandsCopy, targetsCopy.get(idx));
+                            }
+                        } finally {
+                            completedGroups.countDown();
+                            this.run();
+                        }
+                    });
+                }
+            }
+        };
+        for (int idx = 0; idx < Math.min(this.maxConcurrentSessions, groups.size()); ++idx) {
+            startNextGroup.run();
+        }
+        try {
+            completedGroups.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SelenideElementInvocationException("Interrupted while waiting for fan-out completion", ex);
+        }
+
+        final List<FanOutReport.Entry<T>> entriesList = new ArrayList<>(entries.length);
+        for (final FanOutReport.Entry<T> entry : entries) {
+            entriesList.add(entry);
+        }
+        return new FanOutReport<>(entriesList, System.nanoTime() - start);
+    }
+
+    private static <T> FanOutReport.Entry<T> executeOnTarget(final List<OuterCommand<? extends T>> commands,
+                                                              final SelenideElement target) {
+        final List<T> results = new ArrayList<>(commands.size());
+        for (final OuterCommand<? extends T> command : commands) {
+            try {
+                results.add(command.executeOn(target));
+            } catch (final Throwable ex) {
+                return new FanOutReport.Entry<>(target, results, ex);
+            }
+        }
+        return new FanOutReport.Entry<>(target, results, null);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Append;
+import com.codeborne.selenide.commands.Clear;
+import com.codeborne.selenide.commands.ScrollIntoView;
+import com.codeborne.selenide.commands.ScrollTo;
+import com.codeborne.selenide.commands.SetValue;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Command that fuses consecutive supported commands into a single JavaScript call.
+ *
+ * <p>Supported commands (plain or wrapped into {@link CustomArgsCommandOf}):</p>
+ * <ul>
+ * <li>{@link SetValue} with a text argument - sets the {@code value} property
+ * and dispatches {@code input} and {@code change} events</li>
+ * <li>{@link Append} - appends to the {@code value} property and dispatches {@code input} event</li>
+ * <li>{@link Clear} - clears the {@code value} property and dispatches {@code input} and {@code change} events</li>
+ * <li>{@link ScrollTo} - scrolls the window to the element</li>
+ * <li>{@link ScrollIntoView} - calls {@code scrollIntoView} with given argument</li>
+ * </ul>
+ *
+ * <p>The script equivalents do not simulate keyboard input and do not check the element
+ * is editable. Other commands are executed as ordinary steps in the same order.
+ * The element is resolved through the locator once.</p>
+ *
+ * <p>Each JavaScript call and each ordinary step is executed as a separate invocation of the element proxy,
+ * so the Selenide proxy retries only the failed step and the steps before it are not repeated. Each
+ * JavaScript call marks the element with the execution token and is skipped if the element is already
+ * marked, so a retried call does not apply {@link Append} twice.</p>
+ *
+ * <p>Prefer {@link #executeOn(SelenideElement)} method. If this command is executed via
+ * {@link SelenideElement#execute(Command, java.time.Duration)} with a timeout longer than the configured one,
+ * the Selenide proxy can repeat the whole command after the failed step timeout.</p>
+ */
+@ParametersAreNonnullByDefault
+public class FusedCommandOf implements Command<List<Object>>, OuterCommand<List<Object>> {
+    private static final AtomicLong EXECUTION_TOKENS = new AtomicLong();
+    private final List<Step> steps;
+    private final int commandsCount;
+
+    /**
+     * Ctor.
+     *
+     * @param commands the commands
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     */
+    public FusedCommandOf(final Command<?>... commands) {
+        this(Arrays.asList(Objects.requireNonNull(commands, "commands arg is null")));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param commands the commands
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     */
+    public FusedCommandOf(final List<? extends Command<?>> commands) {
+        Objects.requireNonNull(commands, "commands arg is null");
+        final List<Step> compiledSteps = new ArrayList<>();
+        ScriptStep scriptStep = null;
+        for (final Command<?> command : commands) {
+            Objects.requireNonNull(command, "commands arg contains null");
+            final Command<?> origin = command instanceof CustomArgsCommandOf
+                ? ((CustomArgsCommandOf<?>) command).originCommand()
+                : command;
+            final Object[] args = command instanceof CustomArgsCommandOf
+                ? ((CustomArgsCommandOf<?>) command).commandArgs()
+                : NO_ARGS;
+            final String statement = statement(origin, args, scriptStep == null ? 2 : scriptStep.values.size() + 2);
+            if (statement == null) {
+                scriptStep = null;
+                compiledSteps.add(new CommandStep(command));
+            } else {
+                if (scriptStep == null) {
+                    scriptStep = new ScriptStep();
+                    compiledSteps.add(scriptStep);
+                }
+                scriptStep.add(statement, origin instanceof SetValue || origin instanceof Append ? args : null);
+            }
+        }
+        this.steps = Collections.unmodifiableList(compiledSteps);
+        this.commandsCount = commands.size();
+    }
+
+    @Override
+    public final List<Object> execute(final SelenideElement proxy,
+                                      final WebElementSource locator,
+                                      final @Nullable Object[] ignoredArgs) throws IOException {
+        return this.executeSteps(proxy, new CachedWebElementSource(locator));
+    }
+
+    /**
+     * Executes this command on given element without the Selenide proxy retry of the whole command.
+     *
+     * @param element the element
+     * @return the list of commands results
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a Proxy
+     */
+    @Override
+    public final List<Object> executeOn(final SelenideElement element) {
+        final CachedWebElementSource cachedLocator = new CachedWebElementSource(WebElementSources.of(element));
+        try {
+            return this.executeSteps(element, cachedLocator);
+        } catch (final IOException ex) {
+            throw Invocations.rethrow(ex);
+        }
+    }
+
+    private List<Object> executeSteps(final SelenideElement proxy,
+                                      final CachedWebElementSource cachedLocator) throws IOException {
+        final List<Object> results = new ArrayList<>(this.commandsCount);
+        for (final Step step : this.steps) {
+            step.execute(proxy, cachedLocator, results);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    @Nullable
+    private static String statement(final Command<?> command,
+                                    final @Nullable Object[] args,
+                                    final int valueIndex) {
+        final int argsCount = args == null ? 0 : args.length;
+        final Object firstArg = argsCount == 0 ? null : args[0];
+        final String value = "arguments[" + valueIndex + "]";
+        if (command instanceof SetValue && argsCount == 1 && (firstArg == null || firstArg instanceof CharSequence)) {
+            return "e.value = " + value + " == null ? '' : String(" + value + ");"
+                + "e.dispatchEvent(new Event('input', {bubbles: true}));"
+                + "e.dispatchEvent(new Event('change', {bubbles: true}));";
+        }
+        if (command instanceof Append && argsCount == 1 && firstArg instanceof CharSequence) {
+            return "e.value = e.value + String(" + value + ");"
+                + "e.dispatchEvent(new Event('input', {bubbles: true}));";
+        }
+        if (command instanceof Clear && argsCount == 0) {
+            return "e.value = '';"
+                + "e.dispatchEvent(new Event('input', {bubbles: true}));"
+                + "e.dispatchEvent(new Event('change', {bubbles: true}));";
+        }
+        if (command instanceof ScrollTo && argsCount == 0) {
+            return "var r = e.getBoundingClientRect();"
+                + "window.scrollTo(r.left + window.pageXOffset, r.top + window.pageYOffset);";
+        }
+        if (command instanceof ScrollIntoView && argsCount == 1
+            && (firstArg instanceof Boolean || firstArg instanceof String)) {
+            return "e.scrollIntoView(" + firstArg + ");";
+        }
+        return null;
+    }
+
+    /**
+     * Fused command step.
+     */
+    private interface Step {
+
+        void execute(SelenideElement proxy,
+                     CachedWebElementSource locator,
+                     List<Object> results) throws IOException;
+    }
+
+    /**
+     * Ordinary command step.
+     */
+    private static final class CommandStep implements Step {
+        private final Command<?> command;
+
+        private CommandStep(final Command<?> command) {
+            this.command = command;
+        }
+
+        @Override
+        public void execute(final SelenideElement proxy,
+                            final CachedWebElementSource locator,
+                            final List<Object> results) throws IOException {
+            results.add(ProxyStepCommand.execute(proxy, locator, this.command));
+        }
+    }
+
+    /**
+     * Single JavaScript call step.
+     */
+    private static final class ScriptStep implements Step {
+        private final StringBuilder script = new StringBuilder(
+            "var e = arguments[0]; if (e.__selenideHacksToken === arguments[1]) { return; }");
+        private final List<Object> values = new ArrayList<>();
+        private int statementsCount = 0;
+
+        private void add(final String statement,
+                         final @Nullable Object[] valueArgs) {
+            this.script.append(statement);
+            if (valueArgs != null) {
+                this.values.add(valueArgs[0]);
+            }
+            this.statementsCount++;
+        }
+
+        @Override
+        public void execute(final SelenideElement proxy,
+                            final CachedWebElementSource locator,
+                            final List<Object> results) throws IOException {
+            final String token = Long.toString(EXECUTION_TOKENS.incrementAndGet());
+            ProxyStepCommand.execute(proxy, locator, new ScriptCommand(
+                this.script + "e.__selenideHacksToken = arguments[1];", this.values, token));
+            for (int idx = 0; idx < this.statementsCount; ++idx) {
+                results.add(proxy);
+            }
+        }
+    }
+
+    /**
+     * JavaScript call of one script step execution.
+     */
+    private static final class ScriptCommand implements Command<Object> {
+        private final String script;
+        private final List<Object> values;
+        private final String token;
+
+        private ScriptCommand(final String script,
+                              final List<Object> values,
+                              final String token) {
+            this.script = script;
+            this.values = values;
+            this.token = token;
+        }
+
+        @Override
+        @Nullable
+        public Object execute(final SelenideElement proxy,
+                              final WebElementSource locator,
+                              final @Nullable Object[] ignoredArgs) {
+            final Object[] scriptArgs = new Object[this.values.size() + 2];
+            scriptArgs[0] = locator.getWebElement();
+            scriptArgs[1] = this.token;
+            for (int idx = 0; idx < this.values.size(); ++idx) {
+                scriptArgs[idx + 2] = this.values.get(idx);
+            }
+            return locator.driver().executeJavaScript(this.script, scriptArgs);
+        }
+    }
+}
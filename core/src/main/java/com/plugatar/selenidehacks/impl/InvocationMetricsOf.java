@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.InvocationMetrics;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default implementation of {@link InvocationMetrics}.
+ *
+ * <p>Recording is lock-free: counters are {@link LongAdder}s and latencies are recorded into
+ * {@link LatencyHistogram}.</p>
+ */
+@ParametersAreNonnullByDefault
+public class InvocationMetricsOf implements InvocationMetrics {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private final ConcurrentMap<String, Metrics> metricsByName = new ConcurrentHashMap<>();
+
+    /**
+     * Ctor.
+     */
+    public InvocationMetricsOf() {
+    }
+
+    @Override
+    public final void invoked(final String name,
+                              final long durationNanos,
+                              final @Nullable Throwable failure) {
+        Metrics metrics = this.metricsByName.get(name);
+        if (metrics == null) {
+            metrics = this.metricsByName.computeIfAbsent(name, key -> new Metrics());
+        }
+        metrics.record(durationNanos, failure != null);
+    }
+
+    @Override
+    public final String toJson() {
+        final StringBuilder builder = new StringBuilder("{");
+        boolean first = true;
+        for (final Map.Entry<String, Metrics> entry : new TreeMap<>(this.metricsByName).entrySet()) {
+            final Metrics metrics = entry.getValue();
+            builder.append(first ? "\n  " : ",\n  ");
+            first = false;
+            appendJsonString(builder, entry.getKey());
+            builder.append(": {\"count\": ").append(metrics.count.sum())
+                .append(", \"failures\": ").append(metrics.failures.sum())
+                .append(", \"totalNanos\": ").append(metrics.totalNanos.sum())
+                .append(", \"maxNanos\": ").append(metrics.maxNanos.get());
+            for (int idx = 0; idx < PERCENTILES.length; ++idx) {
+                builder.append(", \"").append(PERCENTILE_NAMES[idx]).append("Nanos\": ")
+                    .append(metrics.histogram.valueAtPercentile(PERCENTILES[idx]));
+            }
+            builder.append('}');
+        }
+        return builder.append(first ? "}" : "\n}").toString();
+    }
+
+    @Override
+    public final String toCsv() {
+        final StringBuilder builder = new StringBuilder("name,count,failures,total_ns,max_ns");
+        for (final String percentileName : PERCENTILE_NAMES) {
+            builder.append(',').append(percentileName).append("_ns");
+        }
+        builder.append('\n');
+        for (final Map.Entry<String, Metrics> entry : new TreeMap<>(this.metricsByName).entrySet()) {
+            final Metrics metrics = entry.getValue();
+            appendCsvString(builder, entry.getKey());
+            builder.append(',').append(metrics.count.sum())
+                .append(',').append(metrics.failures.sum())
+                .append(',').append(metrics.totalNanos.sum())
+                .append(',').append(metrics.maxNanos.get());
+            for (final double percentile : PERCENTILES) {
+                builder.append(',').append(metrics.histogram.valueAtPercentile(percentile));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public final void exportOnShutdown(final Path file) {
+        Objects.requireNonNull(file, "file arg is null");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> this.export(file), "selenide-hacks-metrics-export"));
+    }
+
+    private void export(final Path file) {
+        final String content = file.toString().endsWith(".csv") ? this.toCsv() : this.toJson();
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void appendJsonString(final StringBuilder builder,
+                                         final String value) {
+        builder.append('"');
+        for (int idx = 0; idx < value.length(); ++idx) {
+            final char ch = value.charAt(idx);
+            if (ch == '"' || ch == '\\') {
+                builder.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                builder.append(String.format("\\u%04x", (int) ch));
+            } else {
+                builder.append(ch);
+            }
+        }
+        builder.append('"');
+    }
+
+    private static void appendCsvString(final StringBuilder builder,
+                                        final String value) {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1) {
+            builder.append(value);
+        } else {
+            builder.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Metrics of one invocation name.
+     */
+    private static final class Metrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private void record(final long durationNanos,
+                            final boolean failed) {
+            final long value = Math.max(0L, durationNanos);
+            this.count.increment();
+            if (failed) {
+                this.failures.increment();
+            }
+            this.totalNanos.add(value);
+            long max;
+            while (value > (max = this.maxNanos.get()) && !this.maxNanos.compareAndSet(max, value)) {
+                /* retry */
+            }
+            this.histogram.record(value);
+        }
+    }
+}
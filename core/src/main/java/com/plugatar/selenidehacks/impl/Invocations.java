@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.InvocationListener;
+import com.plugatar.selenidehacks.InvocationListeners;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Array;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Utility class for {@link java.lang.reflect.Proxy} invocations.
+ */
+@ParametersAreNonnullByDefault
+final class Invocations {
+    private static final ClassValue<Boolean> PROXY_CLASSES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return Proxy.isProxyClass(type);
+        }
+    };
+    private static final int HANDLERS_CACHE_SIZE = 256;
+    private static final HandlerEntry[] HANDLERS_CACHE = new HandlerEntry[HANDLERS_CACHE_SIZE];
+
+    /**
+     * Utility class ctor.
+     */
+    private Invocations() {
+    }
+
+    /**
+     * Returns invocation handler of given SelenideElement. Handlers of recently used elements are cached
+     * in a lossy direct-mapped cache weakly referencing elements, so repeated calls for the same element
+     * skip the proxy validation and do not allocate.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link Proxy}
+     * @return invocation handler
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a {@link Proxy}
+     */
+    static InvocationHandler handlerOf(final @Nullable SelenideElement element) {
+        if (element == null) { throw ValidationErrors.error("element arg is null"); }
+        final int slot = System.identityHashCode(element) & (HANDLERS_CACHE_SIZE - 1);
+        final HandlerEntry entry = HANDLERS_CACHE[slot];
+        if (entry != null && entry.get() == element) {
+            return entry.handler;
+        }
+        if (!isProxy(element)) {
+            throw ValidationErrors.error("element arg is not instantiated as a Proxy");
+        }
+        final InvocationHandler handler = Proxy.getInvocationHandler(element);
+        HANDLERS_CACHE[slot] = new HandlerEntry(element, handler);
+        return handler;
+    }
+
+    /**
+     * Checks if given object is instantiated as a {@link Proxy}. Result is cached per class.
+     *
+     * @param object the object
+     * @return {@code true} if given object is instantiated as a {@link Proxy}, otherwise {@code false}
+     */
+    static boolean isProxy(final Object object) {
+        return PROXY_CLASSES.get(object.getClass());
+    }
+
+    /**
+     * Returns the most specific SelenideElement method for given name and arguments.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @return the method
+     * @throws SelenideElementInvocationException if {@code methodName} is {@code null} or if method not found
+     */
+    static Method selenideElementMethod(final @Nullable String methodName,
+                                        final @Nullable Object[] methodArgs) {
+        return methodOf(MethodIndex.selenideElementIndex(), methodName, methodArgs);
+    }
+
+    /**
+     * Returns the most specific method of given index for given name and arguments.
+     *
+     * @param index      the method index
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @return the method
+     * @throws SelenideElementInvocationException if {@code methodName} is {@code null} or if method not found
+     */
+    static Method methodOf(final MethodIndex index,
+                           final @Nullable String methodName,
+                           final @Nullable Object[] methodArgs) {
+        if (methodName == null) { throw ValidationErrors.error("methodName arg is null"); }
+        final Method method = index.resolve(methodName, methodArgs);
+        if (method == null) {
+            throw ValidationErrors.error("Not found SelenideElement method by name: " + methodName);
+        }
+        return method;
+    }
+
+    /**
+     * Invokes given method via given invocation handler and notifies the current {@link InvocationListener}.
+     * Invocation is not timed if listener is not set.
+     *
+     * @param invocationHandler the invocation handler
+     * @param proxy             the proxy
+     * @param method            the method
+     * @param methodArgs        the method arguments
+     * @return the value that returned by method invoking
+     */
+    static Object invoke(final InvocationHandler invocationHandler,
+                         final Object proxy,
+                         final Method method,
+                         final @Nullable Object[] methodArgs) {
+        final InvocationListener listener = InvocationListeners.current();
+        if (listener == null) {
+            try {
+                return invocationHandler.invoke(proxy, method, methodArgs);
+            } catch (final Throwable ex) {
+                throw rethrow(ex);
+            }
+        }
+        final long start = System.nanoTime();
+        final Object result;
+        try {
+            result = invocationHandler.invoke(proxy, method, methodArgs);
+        } catch (final Throwable ex) {
+            final long durationNanos = System.nanoTime() - start;
+            final Throwable failure = unwrap(ex);
+            listener.invoked(invocationName(method, methodArgs), method.getName(), methodArgs, null,
+                durationNanos, failure);
+            throw sneakyThrow(failure);
+        }
+        final long durationNanos = System.nanoTime() - start;
+        listener.invoked(invocationName(method, methodArgs), method.getName(), methodArgs, result,
+            durationNanos, null);
+        return result;
+    }
+
+    /**
+     * Returns invocation name for {@link InvocationListener}: the Command class name for {@code execute}
+     * method invocations, otherwise the method name.
+     *
+     * @param method     the method
+     * @param methodArgs the method arguments
+     * @return invocation name
+     */
+    static String invocationName(final Method method,
+                                 final @Nullable Object[] methodArgs) {
+        if (methodArgs != null && methodArgs.length != 0 && methodArgs[0] instanceof Command
+            && method.getName().equals("execute")) {
+            Object command = methodArgs[0];
+            if (command instanceof ProxyStepCommand) {
+                command = ((ProxyStepCommand<?>) command).step();
+            }
+            if (command instanceof CustomArgsCommandOf) {
+                command = ((CustomArgsCommandOf<?>) command).originCommand();
+            } else if (command instanceof DeadlineCommandOf) {
+                command = ((DeadlineCommandOf<?>) command).originCommand();
+            } else if (command instanceof BackoffCommandOf) {
+                command = ((BackoffCommandOf<?>) command).originCommand();
+            }
+            return command.getClass().getName();
+        }
+        return method.getName();
+    }
+
+    /**
+     * Returns arguments adapted to given method parameters: trailing arguments of variable arity
+     * method are packed into an array.
+     *
+     * @param method     the method
+     * @param methodArgs the method arguments
+     * @return adapted arguments
+     */
+    @Nullable
+    static Object[] adaptArgs(final Method method,
+                              final @Nullable Object[] methodArgs) {
+        if (!method.isVarArgs() || methodArgs == null) {
+            return methodArgs;
+        }
+        final int parameterCount = method.getParameterCount();
+        final Class<?> arrayType = method.getParameterTypes()[parameterCount - 1];
+        if (methodArgs.length == parameterCount) {
+            final Object lastArg = methodArgs[parameterCount - 1];
+            if (lastArg == null || arrayType.isInstance(lastArg)) {
+                return methodArgs;
+            }
+        }
+        if (methodArgs.length < parameterCount - 1) {
+            return methodArgs;
+        }
+        final int varArgsCount = methodArgs.length - parameterCount + 1;
+        final Object varArgs = Array.newInstance(arrayType.getComponentType(), varArgsCount);
+        for (int idx = 0; idx < varArgsCount; ++idx) {
+            Array.set(varArgs, idx, methodArgs[parameterCount - 1 + idx]);
+        }
+        final Object[] adaptedArgs = new Object[parameterCount];
+        System.arraycopy(methodArgs, 0, adaptedArgs, 0, parameterCount - 1);
+        adaptedArgs[parameterCount - 1] = varArgs;
+        return adaptedArgs;
+    }
+
+    /**
+     * Returns arguments of the {@code execute} method: given command followed by given rest arguments.
+     *
+     * @param command  the command
+     * @param restArgs the rest arguments
+     * @return the {@code execute} method arguments
+     */
+    static Object[] executeArgs(final Object command,
+                                final @Nullable Object[] restArgs) {
+        if (restArgs == null || restArgs.length == 0) {
+            return new Object[]{command};
+        }
+        final Object[] args = new Object[restArgs.length + 1];
+        args[0] = command;
+        System.arraycopy(restArgs, 0, args, 1, restArgs.length);
+        return args;
+    }
+
+    /**
+     * Rethrows given throwable unwrapping {@link UndeclaredThrowableException}.
+     *
+     * @param throwable the throwable
+     * @return nothing, this method always throws
+     */
+    static RuntimeException rethrow(final Throwable throwable) {
+        throw sneakyThrow(unwrap(throwable));
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof UndeclaredThrowableException) {
+            final Throwable causeEx = ((UndeclaredThrowableException) throwable).getUndeclaredThrowable();
+            if (causeEx != null) {
+                return causeEx;
+            }
+        }
+        return throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(final Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    /**
+     * Handlers cache entry. Entries are immutable, so they are safely shared between threads without
+     * synchronization, the lost cache updates only lead to repeated lookups.
+     */
+    private static final class HandlerEntry extends WeakReference<SelenideElement> {
+        private final InvocationHandler handler;
+
+        private HandlerEntry(final SelenideElement element,
+                             final InvocationHandler handler) {
+            super(element);
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of non-negative values.
+ *
+ * <p>Like HdrHistogram, values are grouped into power-of-two ranges and each range is split
+ * into 16 linear sub-buckets, so the relative error is below 1/16
+ * for the whole {@code long} range with fixed memory footprint.</p>
+ */
+@ParametersAreNonnullByDefault
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS_COUNT = indexOf(Long.MAX_VALUE) + 1;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS_COUNT);
+
+    /**
+     * Ctor.
+     */
+    LatencyHistogram() {
+    }
+
+    /**
+     * Records given value, negative values are recorded as zero.
+     *
+     * @param value the value
+     */
+    void record(final long value) {
+        this.counts.incrementAndGet(indexOf(Math.max(0L, value)));
+    }
+
+    /**
+     * Returns recorded values count.
+     *
+     * @return recorded values count
+     */
+    long totalCount() {
+        long total = 0L;
+        for (int idx = 0; idx < BUCKETS_COUNT; ++idx) {
+            total += this.counts.get(idx);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the highest value equivalent to the value at given percentile.
+     *
+     * @param percentile the percentile in range {@code [0, 100]}
+     * @return value at given percentile or {@code 0} if histogram is empty
+     */
+    long valueAtPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKETS_COUNT];
+        long total = 0L;
+        for (int idx = 0; idx < BUCKETS_COUNT; ++idx) {
+            snapshot[idx] = this.counts.get(idx);
+            total += snapshot[idx];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        final double boundedPercentile = Math.min(100.0, Math.max(0.0, percentile));
+        final long targetCount = Math.max(1L, (long) Math.ceil(boundedPercentile / 100.0 * total));
+        long count = 0L;
+        for (int idx = 0; idx < BUCKETS_COUNT; ++idx) {
+            count += snapshot[idx];
+            if (count >= targetCount) {
+                return highestValueOf(idx);
+            }
+        }
+        return highestValueOf(BUCKETS_COUNT - 1);
+    }
+
+    static int indexOf(final long value) {
+        final int shift = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(final int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long lowestValue = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowestValue + (1L << shift) - 1L;
+    }
+}
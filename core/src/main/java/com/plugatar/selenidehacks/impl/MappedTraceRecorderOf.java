@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.TraceRecorder;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Trace recorder implementation writing records to the memory-mapped file regions. Each thread encodes records
+ * into its own reusable buffer with its own string table, reserves the record position in the file by the atomic
+ * increment and copies the record to the mapped regions, so recording threads do not block each other. The next
+ * region is mapped when a record reaches it. The file is truncated to the written size on closing.
+ *
+ * <p>The trace can be replayed while it is being recorded: the record tag is published after the record length
+ * and body, so the zero-filled tail of the last region and the first record whose writing is not completed end
+ * the trace. If a record is not written, the string table of the thread is cleared and the next record of the
+ * thread resets the string table of its stream.</p>
+ *
+ * @see TraceFormat
+ */
+@ParametersAreNonnullByDefault
+public class MappedTraceRecorderOf implements TraceRecorder {
+    private static final int REGION_SIZE = 8 * 1024 * 1024;
+    private static final int HEADER_SIZE = 5;
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger streamIds = new AtomicInteger();
+    private final ThreadLocal<Writer> writers =
+        ThreadLocal.withInitial(() -> new Writer(this.streamIds.incrementAndGet()));
+    private final AtomicLong position = new AtomicLong(HEADER_SIZE);
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final FileChannel channel;
+    private volatile MappedByteBuffer[] regions;
+    private volatile boolean closed = false;
+    private volatile int fence = 0;
+
+    /**
+     * Ctor.
+     *
+     * @param file the trace file
+     * @throws NullPointerException if {@code file} is {@code null}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public MappedTraceRecorderOf(final Path file) {
+        Objects.requireNonNull(file, "file arg is null");
+        final MappedByteBuffer firstRegion;
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            firstRegion = this.channel.map(FileChannel.MapMode.READ_WRITE, 0L, REGION_SIZE);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        firstRegion.putInt(0, TraceFormat.MAGIC);
+        firstRegion.put(4, TraceFormat.VERSION);
+        this.regions = new MappedByteBuffer[]{firstRegion};
+    }
+
+    @Override
+    public final void invoked(final String name,
+                              final long durationNanos,
+                              final @Nullable Throwable failure) {
+        this.invoked(name, name, null, null, durationNanos, failure);
+    }
+
+    @Override
+    public final void invoked(final String name,
+                              final String methodName,
+                              final @Nullable Object[] methodArgs,
+                              final @Nullable Object result,
+                              final long durationNanos,
+                              final @Nullable Throwable failure) {
+        if (this.closed) {
+            return;
+        }
+        this.activeWriters.incrementAndGet();
+        try {
+            if (this.closed) {
+                return;
+            }
+            final Writer writer = this.writers.get();
+            final TraceFormat.Output out = writer.output;
+            try {
+                out.reset();
+                final boolean resetStrings = out.resetStringsIfFull() || writer.stringsLost;
+                out.writeByte(resetStrings ? TraceFormat.RESET_RECORD_TAG : TraceFormat.RECORD_TAG);
+                out.writeInt(0);
+                out.writeVarLong(writer.streamId);
+                out.writeVarLong(Math.max(0L, System.nanoTime() - durationNanos - this.startNanos));
+                out.writeVarLong(Math.max(0L, durationNanos));
+                out.writeString(name);
+                out.writeString(methodName);
+                if (methodArgs == null) {
+                    out.writeVarLong(0L);
+                } else {
+                    out.writeVarLong(methodArgs.length + 1L);
+                    for (final Object arg : methodArgs) {
+                        out.writeValue(arg);
+                    }
+                }
+                if (failure == null) {
+                    out.writeByte(TraceFormat.STATUS_OK);
+                    out.writeValue(result);
+                } else {
+                    out.writeByte(TraceFormat.STATUS_FAILURE);
+                    out.writeString(failure.getClass().getName());
+                }
+                out.setInt(1, out.size() - TraceFormat.RECORD_HEADER_SIZE);
+                this.write(writer, out.bytes(), out.size());
+                writer.stringsLost = false;
+            } catch (final RuntimeException | Error ex) {
+                out.clearStrings();
+                writer.stringsLost = true;
+                throw ex;
+            }
+        } finally {
+            this.activeWriters.decrementAndGet();
+        }
+    }
+
+    @Override
+    public final void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+        }
+        while (this.activeWriters.get() != 0) {
+            Thread.yield();
+        }
+        for (final MappedByteBuffer region : this.regions) {
+            if (region != null) {
+                region.force();
+            }
+        }
+        this.regions = new MappedByteBuffer[0];
+        try (FileChannel ch = this.channel) {
+            ch.truncate(this.position.get());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes the record: reserves its position, copies the length and the body, then publishes the tag.
+     *
+     * @param writer the writer
+     * @param bytes  the record bytes
+     * @param size   the record size
+     */
+    private void write(final Writer writer,
+                       final byte[] bytes,
+                       final int size) {
+        final long recordPosition = this.position.getAndAdd(size);
+        this.put(writer, bytes, 1, size - 1, recordPosition + 1);
+        this.storeFence();
+        this.put(writer, bytes, 0, 1, recordPosition);
+    }
+
+    private void put(final Writer writer,
+                     final byte[] bytes,
+                     final int fromOffset,
+                     final int size,
+                     final long fromPosition) {
+        long position = fromPosition;
+        int offset = fromOffset;
+        final int endOffset = fromOffset + size;
+        while (offset < endOffset) {
+            final int regionIdx = (int) (position / REGION_SIZE);
+            if (writer.regionIdx != regionIdx) {
+                writer.region = this.region(regionIdx).duplicate();
+                writer.regionIdx = regionIdx;
+            }
+            final int regionOffset = (int) (position % REGION_SIZE);
+            final int length = Math.min(endOffset - offset, REGION_SIZE - regionOffset);
+            writer.region.position(regionOffset);
+            writer.region.put(bytes, offset, length);
+            offset += length;
+            position += length;
+        }
+    }
+
+    /**
+     * Orders the record length and body stores before the record tag store: the volatile store is not reordered
+     * with the preceding stores, the volatile load is not reordered with the following stores.
+     */
+    private void storeFence() {
+        this.fence = 1;
+        if (this.fence == 0) {
+            throw new IllegalStateException("Unreachable");
+        }
+    }
+
+    private MappedByteBuffer region(final int regionIdx) {
+        final MappedByteBuffer[] current = this.regions;
+        if (regionIdx < current.length && current[regionIdx] != null) {
+            return current[regionIdx];
+        }
+        synchronized (this) {
+            final MappedByteBuffer[] mapped =
+                Arrays.copyOf(this.regions, Math.max(regionIdx + 1, this.regions.length));
+            if (mapped[regionIdx] == null) {
+                try {
+                    mapped[regionIdx] =
+                        this.channel.map(FileChannel.MapMode.READ_WRITE, (long) regionIdx * REGION_SIZE, REGION_SIZE);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                this.regions = mapped;
+            }
+            return mapped[regionIdx];
+        }
+    }
+
+    /**
+     * Recording thread state: the stream id, the encoding buffer and the view of the current region.
+     */
+    private static final class Writer {
+        private final int streamId;
+        private final TraceFormat.Output output = new TraceFormat.Output();
+        private int regionIdx = -1;
+        private ByteBuffer region;
+        private boolean stringsLost = false;
+
+        private Writer(final int streamId) {
+            this.streamId = streamId;
+        }
+    }
+}
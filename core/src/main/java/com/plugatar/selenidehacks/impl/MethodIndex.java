@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Index of interface methods keyed by method name, arity and arguments types.
+ *
+ * <p>Resolution results are cached per call-site shape (method name and arguments classes),
+ * so repeated resolution is a lookup in the hash table of the cached shapes without allocations. A single
+ * overload and a unique overload of the arguments arity are returned without the lookup after the arguments
+ * types check. Shapes are cached
+ * only if all arguments classes are visible to the owner class loader of the index, so the index does not
+ * prevent unloading of the arguments classes. If no overload is applicable for given arguments, the first
+ * method with given name is returned and arguments are forwarded as is.</p>
+ */
+@ParametersAreNonnullByDefault
+final class MethodIndex {
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final Supplier<MethodIndex> SELENIDE_ELEMENT_INDEX = new Supplier<MethodIndex>() {
+        private volatile MethodIndex index = null;
+
+        @Override
+        public MethodIndex get() {
+            MethodIndex result;
+            if ((result = this.index) == null) {
+                synchronized (this) {
+                    if ((result = this.index) == null) {
+                        result = SelenideElementDispatch.SELENIDE_VERSION.equals(selenideVersion())
+                            ? dispatchIndex()
+                            : new MethodIndex(SelenideElement.class.getMethods());
+                        this.index = result;
+                    }
+                    return result;
+                }
+            }
+            return result;
+        }
+    };
+    private static final ClassValue<MethodIndex> PROXY_CLASS_INDEXES = new ClassValue<MethodIndex>() {
+        @Override
+        protected MethodIndex computeValue(final Class<?> proxyClass) {
+            final Class<?>[] interfaces = proxyClass.getInterfaces();
+            if (interfaces.length == 1 && interfaces[0] == SelenideElement.class) {
+                return selenideElementIndex();
+            }
+            final List<Method> methods = new ArrayList<>();
+            for (final Class<?> type : interfaces) {
+                methods.addAll(Arrays.asList(type.getMethods()));
+            }
+            return new MethodIndex(methods.toArray(new Method[0]), proxyClass.getClassLoader());
+        }
+    };
+    private final Map<String, Overloads> overloadsByName;
+    @Nullable
+    private final Function<String, Overloads> overloadsLoader;
+
+    /**
+     * Ctor with the class loader of the first method declaring class as the owner class loader.
+     *
+     * @param methods the methods to index
+     */
+    MethodIndex(final Method[] methods) {
+        this(methods, methods.length == 0 ? null : methods[0].getDeclaringClass().getClassLoader());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param methods     the methods to index
+     * @param ownerLoader the owner class loader
+     */
+    MethodIndex(final Method[] methods,
+                final @Nullable ClassLoader ownerLoader) {
+        final Map<String, List<Method>> grouped = groupByName(methods);
+        final Map<String, Overloads> index = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((name, overloads) ->
+            index.put(name, new Overloads(overloads.toArray(new Method[0]), ownerLoader)));
+        this.overloadsByName = index;
+        this.overloadsLoader = null;
+    }
+
+    /**
+     * Ctor of the index loading overloads on demand.
+     *
+     * @param overloadsLoader the function returning overloads of given method name
+     *                        or {@code null} if there is no method with given name
+     */
+    private MethodIndex(final Function<String, Overloads> overloadsLoader) {
+        this.overloadsByName = new ConcurrentHashMap<>();
+        this.overloadsLoader = overloadsLoader;
+    }
+
+    /**
+     * Groups given methods by name. Methods with the same signature are deduplicated in favor of the method
+     * declared in the most specific type.
+     *
+     * @param methods the methods
+     * @return methods grouped by name in the order of given methods
+     */
+    static Map<String, List<Method>> groupByName(final Method[] methods) {
+        final Map<String, Map<List<Class<?>>, Method>> grouped = new LinkedHashMap<>();
+        for (final Method method : methods) {
+            final Map<List<Class<?>>, Method> bySignature =
+                grouped.computeIfAbsent(method.getName(), name -> new LinkedHashMap<>());
+            final List<Class<?>> signature = Arrays.asList(method.getParameterTypes());
+            final Method existing = bySignature.get(signature);
+            if (existing == null
+                || existing.getDeclaringClass().isAssignableFrom(method.getDeclaringClass())) {
+                bySignature.put(signature, method);
+            }
+        }
+        final Map<String, List<Method>> result = new LinkedHashMap<>(grouped.size() * 2);
+        grouped.forEach((name, bySignature) -> result.put(name, new ArrayList<>(bySignature.values())));
+        return result;
+    }
+
+    /**
+     * Returns index of {@link SelenideElement} methods based on the generated {@link SelenideElementDispatch}.
+     * Overloads are looked up by known signatures on first use of each method name without scanning all
+     * SelenideElement methods. Overloads of the method name are scanned if any known signature is not found.
+     *
+     * @return index of SelenideElement methods
+     */
+    static MethodIndex dispatchIndex() {
+        final ClassLoader ownerLoader = SelenideElement.class.getClassLoader();
+        return new MethodIndex(new Function<String, Overloads>() {
+            @Override
+            @Nullable
+            public Overloads apply(final String methodName) {
+                final Class<?>[][] signatures = SelenideElementDispatch.signaturesOf(methodName);
+                if (signatures == null) {
+                    return null;
+                }
+                final Method[] methods = new Method[signatures.length];
+                try {
+                    for (int idx = 0; idx < signatures.length; ++idx) {
+                        methods[idx] = SelenideElement.class.getMethod(methodName, signatures[idx]);
+                    }
+                } catch (final NoSuchMethodException ex) {
+                    final List<Method> scanned = groupByName(SelenideElement.class.getMethods()).get(methodName);
+                    return scanned == null ? null : new Overloads(scanned.toArray(new Method[0]), ownerLoader);
+                }
+                return new Overloads(methods, ownerLoader);
+            }
+        });
+    }
+
+    /**
+     * Returns index of methods of all interfaces of given proxy class. The index is built once per proxy
+     * class and is stored in the proxy class, so it is unloaded together with the proxy class. The shared
+     * {@link #selenideElementIndex()} is returned for proxy classes implementing only {@link SelenideElement}.
+     *
+     * @param proxyClass the proxy class
+     * @return index of proxy class interfaces methods
+     */
+    static MethodIndex of(final Class<?> proxyClass) {
+        return PROXY_CLASS_INDEXES.get(proxyClass);
+    }
+
+    /**
+     * Returns the Selenide version on the classpath.
+     *
+     * @return the Selenide version or {@code null} if version is unknown
+     */
+    @Nullable
+    static String selenideVersion() {
+        final Package selenidePackage = SelenideElement.class.getPackage();
+        return selenidePackage == null ? null : selenidePackage.getImplementationVersion();
+    }
+
+    /**
+     * Returns lazily initialized index of {@link SelenideElement} methods. The generated
+     * {@link SelenideElementDispatch} is used if it corresponds to the Selenide version on the classpath,
+     * otherwise all SelenideElement methods are scanned via reflection.
+     *
+     * @return index of SelenideElement methods
+     */
+    static MethodIndex selenideElementIndex() {
+        return SELENIDE_ELEMENT_INDEX.get();
+    }
+
+    /**
+     * Returns the method with given name and parameter types.
+     *
+     * @param methodName     the method name
+     * @param parameterTypes the method parameter types
+     * @return the method or {@code null} if there is no such method
+     */
+    @Nullable
+    Method find(final String methodName,
+                final Class<?>[] parameterTypes) {
+        final Overloads overloads = this.overloadsOf(methodName);
+        if (overloads != null) {
+            for (final Method method : overloads.methods) {
+                if (Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the most specific method for given name and arguments.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @return the method or {@code null} if there is no method with given name
+     */
+    @Nullable
+    Method resolve(final String methodName,
+                   final @Nullable Object[] methodArgs) {
+        final Overloads overloads = this.overloadsOf(methodName);
+        return overloads == null ? null : overloads.resolve(methodArgs);
+    }
+
+    /**
+     * Returns count of cached call-site shapes of given method name.
+     *
+     * @param methodName the method name
+     * @return count of cached call-site shapes
+     */
+    int cachedShapesCount(final String methodName) {
+        final Overloads overloads = this.overloadsOf(methodName);
+        return overloads == null ? 0 : overloads.cachedShapesCount();
+    }
+
+    @Nullable
+    private Overloads overloadsOf(final String methodName) {
+        final Overloads overloads = this.overloadsByName.get(methodName);
+        if (overloads == null && this.overloadsLoader != null) {
+            return this.overloadsByName.computeIfAbsent(methodName, this.overloadsLoader);
+        }
+        return overloads;
+    }
+
+    /**
+     * Overloads of one method name.
+     */
+    private static final class Overloads {
+        private static final int MAX_CACHED_SHAPES = 64;
+        private static final int SHAPES_TABLE_SIZE = MAX_CACHED_SHAPES * 2;
+        private static final int NO_METHOD = -1;
+        private final Method[] methods;
+        private final Class<?>[][] parameterTypes;
+        private final int[] uniqueByArity;
+        @Nullable
+        private final ClassLoader ownerLoader;
+        private volatile CallSiteShape[] resolvedShapes = new CallSiteShape[SHAPES_TABLE_SIZE];
+
+        private Overloads(final Method[] methods,
+                          final @Nullable ClassLoader ownerLoader) {
+            this.methods = methods;
+            this.ownerLoader = ownerLoader;
+            this.parameterTypes = new Class<?>[methods.length][];
+            int maxArity = 0;
+            for (int idx = 0; idx < methods.length; ++idx) {
+                this.parameterTypes[idx] = methods[idx].getParameterTypes();
+                maxArity = Math.max(maxArity, methods[idx].getParameterCount());
+            }
+            this.uniqueByArity = new int[maxArity + 2];
+            for (int arity = 0; arity < this.uniqueByArity.length; ++arity) {
+                int unique = NO_METHOD;
+                for (int idx = 0; idx < methods.length; ++idx) {
+                    if (isApplicableByArity(methods[idx], arity)) {
+                        if (unique != NO_METHOD) {
+                            unique = NO_METHOD;
+                            break;
+                        }
+                        unique = idx;
+                    }
+                }
+                this.uniqueByArity[arity] = unique;
+            }
+        }
+
+        /**
+         * Returns the most specific applicable method. A single overload and a unique overload of the arguments
+         * arity are returned after the arguments types check without the shapes lookup. Other call-site shapes
+         * are looked up in the open addressing table keyed by the arguments classes; the key hash is computed
+         * on each call, it is cheaper than the overloads selection but is not free for long argument lists.
+         *
+         * @param args the arguments
+         * @return the method
+         */
+        private Method resolve(final @Nullable Object[] args) {
+            final int arity = args == null ? 0 : args.length;
+            if (this.methods.length == 1) {
+                if (this.isApplicable(0, args)) {
+                    return this.methods[0];
+                }
+            } else if (arity < this.uniqueByArity.length) {
+                final int unique = this.uniqueByArity[arity];
+                if (unique != NO_METHOD && this.isApplicable(unique, args)) {
+                    return this.methods[unique];
+                }
+            }
+            final int hash = CallSiteShape.hashOf(args);
+            final CallSiteShape[] shapes = this.resolvedShapes;
+            final int mask = shapes.length - 1;
+            int slot = hash & mask;
+            for (CallSiteShape shape; (shape = shapes[slot]) != null; slot = (slot + 1) & mask) {
+                if (shape.hash == hash && shape.matches(args)) {
+                    return shape.method;
+                }
+            }
+            final Method method = this.select(args);
+            if (this.areVisible(args)) {
+                final int count = shapesCount(shapes);
+                if (count < MAX_CACHED_SHAPES) {
+                    final CallSiteShape[] newShapes = shapes.clone();
+                    newShapes[slot] = new CallSiteShape(args, hash, method);
+                    this.resolvedShapes = newShapes;
+                }
+            }
+            return method;
+        }
+
+        private int cachedShapesCount() {
+            return shapesCount(this.resolvedShapes);
+        }
+
+        private static int shapesCount(final CallSiteShape[] shapes) {
+            int count = 0;
+            for (final CallSiteShape shape : shapes) {
+                if (shape != null) {
+                    ++count;
+                }
+            }
+            return count;
+        }
+
+        private boolean isApplicable(final int methodIdx,
+                                     final @Nullable Object[] args) {
+            final Object[] actualArgs = args == null ? NO_ARGS : args;
+            final Class<?>[] types = this.parameterTypes[methodIdx];
+            return isApplicableByFixedArity(types, actualArgs)
+                || (this.methods[methodIdx].isVarArgs() && isApplicableByVariableArity(types, actualArgs));
+        }
+
+        private boolean areVisible(final @Nullable Object[] args) {
+            if (args != null) {
+                for (final Object arg : args) {
+                    if (arg != null && !isVisible(arg.getClass(), this.ownerLoader)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean isVisible(final Class<?> type,
+                                         final @Nullable ClassLoader loader) {
+            final ClassLoader typeLoader = type.getClassLoader();
+            if (typeLoader == null) {
+                return true;
+            }
+            for (ClassLoader current = loader; current != null; current = current.getParent()) {
+                if (current == typeLoader) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Method select(final @Nullable Object[] args) {
+            final Object[] actualArgs = args == null ? NO_ARGS : args;
+            final List<Method> fixedArity = new ArrayList<>();
+            final List<Method> variableArity = new ArrayList<>();
+            for (int idx = 0; idx < this.methods.length; ++idx) {
+                final Method method = this.methods[idx];
+                if (isApplicableByFixedArity(this.parameterTypes[idx], actualArgs)) {
+                    fixedArity.add(method);
+                } else if (method.isVarArgs() && isApplicableByVariableArity(this.parameterTypes[idx], actualArgs)) {
+                    variableArity.add(method);
+                }
+            }
+            if (!fixedArity.isEmpty()) {
+                return mostSpecific(fixedArity);
+            }
+            if (!variableArity.isEmpty()) {
+                return mostSpecific(variableArity);
+            }
+            return this.methods[0];
+        }
+
+        private static boolean isApplicableByArity(final Method method,
+                                                   final int arity) {
+            final int parameterCount = method.getParameterCount();
+            return parameterCount == arity || (method.isVarArgs() && arity >= parameterCount - 1);
+        }
+
+        private static boolean isApplicableByFixedArity(final Class<?>[] parameterTypes,
+                                                        final Object[] args) {
+            if (parameterTypes.length != args.length) {
+                return false;
+            }
+            for (int idx = 0; idx < args.length; ++idx) {
+                if (!isAssignable(parameterTypes[idx], args[idx])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isApplicableByVariableArity(final Class<?>[] parameterTypes,
+                                                           final Object[] args) {
+            final int fixedCount = parameterTypes.length - 1;
+            if (args.length < fixedCount) {
+                return false;
+            }
+            for (int idx = 0; idx < fixedCount; ++idx) {
+                if (!isAssignable(parameterTypes[idx], args[idx])) {
+                    return false;
+                }
+            }
+            final Class<?> componentType = parameterTypes[fixedCount].getComponentType();
+            for (int idx = fixedCount; idx < args.length; ++idx) {
+                if (!isAssignable(componentType, args[idx])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Method mostSpecific(final List<Method> candidates) {
+            for (final Method candidate : candidates) {
+                boolean mostSpecific = true;
+                for (final Method other : candidates) {
+                    if (other != candidate && !isMoreSpecific(candidate, other)) {
+                        mostSpecific = false;
+                        break;
+                    }
+                }
+                if (mostSpecific) {
+                    return candidate;
+                }
+            }
+            return candidates.get(0);
+        }
+
+        private static boolean isMoreSpecific(final Method method,
+                                              final Method other) {
+            final Class<?>[] methodTypes = method.getParameterTypes();
+            final Class<?>[] otherTypes = other.getParameterTypes();
+            if (methodTypes.length != otherTypes.length) {
+                return methodTypes.length > otherTypes.length;
+            }
+            for (int idx = 0; idx < methodTypes.length; ++idx) {
+                if (!otherTypes[idx].isAssignableFrom(methodTypes[idx])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isAssignable(final Class<?> parameterType,
+                                            final @Nullable Object arg) {
+            if (arg == null) {
+                return !parameterType.isPrimitive();
+            }
+            return wrapperOf(parameterType).isInstance(arg);
+        }
+
+        private static Class<?> wrapperOf(final Class<?> type) {
+            if (!type.isPrimitive()) { return type; }
+            if (type == boolean.class) { return Boolean.class; }
+            if (type == int.class) { return Integer.class; }
+            if (type == long.class) { return Long.class; }
+            if (type == double.class) { return Double.class; }
+            if (type == float.class) { return Float.class; }
+            if (type == char.class) { return Character.class; }
+            if (type == byte.class) { return Byte.class; }
+            if (type == short.class) { return Short.class; }
+            return Void.class;
+        }
+    }
+
+    /**
+     * Call-site shape: classes of the arguments ({@code null} for {@code null} argument) and resolved method.
+     */
+    private static final class CallSiteShape {
+        private final Class<?>[] argsClasses;
+        private final int hash;
+        private final Method method;
+
+        private CallSiteShape(final @Nullable Object[] args,
+                              final int hash,
+                              final Method method) {
+            final int length = args == null ? 0 : args.length;
+            this.argsClasses = new Class<?>[length];
+            for (int idx = 0; idx < length; ++idx) {
+                final Object arg = args[idx];
+                this.argsClasses[idx] = arg == null ? null : arg.getClass();
+            }
+            this.hash = hash;
+            this.method = method;
+        }
+
+        private static int hashOf(final @Nullable Object[] args) {
+            if (args == null) {
+                return 0;
+            }
+            int hash = args.length;
+            for (final Object arg : args) {
+                hash = 31 * hash + (arg == null ? 0 : arg.getClass().hashCode());
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private boolean matches(final @Nullable Object[] args) {
+            final int length = args == null ? 0 : args.length;
+            if (length != this.argsClasses.length) {
+                return false;
+            }
+            for (int idx = 0; idx < length; ++idx) {
+                final Object arg = args[idx];
+                if ((arg == null ? null : arg.getClass()) != this.argsClasses[idx]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
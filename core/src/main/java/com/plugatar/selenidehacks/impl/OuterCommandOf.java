@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outer command implementation based on
+ * {@link com.plugatar.selenidehacks.UnsafeSelenideElement}. The method is resolved on each execution by the
+ * index of the element proxy class, variable arity arguments are packed into the array.
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public class OuterCommandOf<T> implements OuterCommand<T> {
+    private final String methodName;
+    private final Object[] methodArgs;
+
+    /**
+     * Ctor.
+     *
+     * @param executeMethodFirstArg the execute method first argument
+     * @param executeMethodRestArgs the execute method rest arguments
+     * @throws NullPointerException if {@code executeMethodFirstArg} is {@code null}
+     */
+    public OuterCommandOf(final Command<? extends T> executeMethodFirstArg,
+                          final Object... executeMethodRestArgs) {
+        this(
+            "execute",
+            Invocations.executeArgs(
+                Objects.requireNonNull(executeMethodFirstArg, "executeMethodFirstArg arg is null"),
+                executeMethodRestArgs
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @throws NullPointerException if {@code methodName} is {@code null}
+     */
+    public OuterCommandOf(final String methodName,
+                          final Object... methodArgs) {
+        this.methodName = Objects.requireNonNull(methodName, "methodName arg is null");
+        this.methodArgs = methodArgs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T executeOn(final SelenideElement element) {
+        final InvocationHandler invocationHandler = Invocations.handlerOf(element);
+        final Method method =
+            Invocations.methodOf(MethodIndex.of(element.getClass()), this.methodName, this.methodArgs);
+        return (T) Invocations.invoke(invocationHandler, element, method,
+            Invocations.adaptArgs(method, this.methodArgs));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Read-only methods that have JavaScript equivalent (e.g. {@code getText}, {@code getAttribute},
+     * {@code isDisplayed}, {@code getValue}) are executed on the whole collection in a single
+     * JavaScript call.</p>
+     */
+    @Override
+    public final List<T> executeOnAll(final ElementsCollection elements) {
+        final List<T> results = BulkScripts.executeOnAll(elements, this.methodName, this.methodArgs);
+        return results == null ? OuterCommand.super.executeOnAll(elements) : results;
+    }
+
+    /**
+     * Returns outer command of the same method with given timeout. The trailing {@link Duration} argument is
+     * capped by given timeout, otherwise given timeout is added as the trailing argument if the method has
+     * an overload with the trailing {@link Duration} parameter (e.g. {@code execute(Command, Duration)}).
+     *
+     * @param timeout the timeout
+     * @return outer command with given timeout or this command if the method has no timeout overload
+     */
+    final OuterCommandOf<T> withTimeout(final Duration timeout) {
+        final Object[] args = this.methodArgs == null ? new Object[0] : this.methodArgs;
+        final int lastIdx = args.length - 1;
+        if (lastIdx >= 0 && args[lastIdx] instanceof Duration) {
+            if (timeout.compareTo((Duration) args[lastIdx]) >= 0) {
+                return this;
+            }
+            final Object[] cappedArgs = args.clone();
+            cappedArgs[lastIdx] = timeout;
+            return new OuterCommandOf<>(this.methodName, cappedArgs);
+        }
+        final MethodIndex index = MethodIndex.selenideElementIndex();
+        final Method method = index.resolve(this.methodName, args);
+        if (method == null || method.getParameterCount() != args.length) {
+            return this;
+        }
+        final Class<?>[] timedTypes = Arrays.copyOf(method.getParameterTypes(), args.length + 1);
+        if (method.isVarArgs() && !timedTypes[lastIdx].isInstance(args[lastIdx])) {
+            timedTypes[lastIdx] = timedTypes[lastIdx].getComponentType();
+        }
+        timedTypes[args.length] = Duration.class;
+        if (index.find(this.methodName, timedTypes) == null) {
+            return this;
+        }
+        final Object[] timedArgs = Arrays.copyOf(args, args.length + 1);
+        timedArgs[args.length] = timeout;
+        return new OuterCommandOf<>(this.methodName, timedArgs);
+    }
+}
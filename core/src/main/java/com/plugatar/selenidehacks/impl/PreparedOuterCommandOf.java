@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outer command implementation that resolves {@link SelenideElement} method and adapts
+ * method arguments once in the ctor.
+ *
+ * <p>The method is resolved by the same index of the element proxy class and the arguments are adapted the same
+ * way as by {@link OuterCommandOf}. The resolution is done at first use for each proxy class and kept for it, so
+ * executing this command on elements of already seen proxy classes is a single invocation handler call.</p>
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public class PreparedOuterCommandOf<T> implements OuterCommand<T> {
+    private final String methodName;
+    private final Object[] methodArgs;
+    private final Method method;
+    private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+        @Override
+        protected Resolution computeValue(final Class<?> proxyClass) {
+            final Object[] args = PreparedOuterCommandOf.this.methodArgs;
+            final Method proxyMethod =
+                Invocations.methodOf(MethodIndex.of(proxyClass), PreparedOuterCommandOf.this.methodName, args);
+            return new Resolution(proxyMethod, Invocations.adaptArgs(proxyMethod, args));
+        }
+    };
+
+    /**
+     * Ctor.
+     *
+     * @param executeMethodFirstArg the execute method first argument
+     * @param executeMethodRestArgs the execute method rest arguments
+     * @throws NullPointerException               if {@code executeMethodFirstArg} is {@code null}
+     * @throws SelenideElementInvocationException if method not found
+     */
+    public PreparedOuterCommandOf(final Command<? extends T> executeMethodFirstArg,
+                                  final Object... executeMethodRestArgs) {
+        this("execute", Invocations.executeArgs(
+            Objects.requireNonNull(executeMethodFirstArg, "executeMethodFirstArg arg is null"),
+            executeMethodRestArgs
+        ));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param methodName the method name
+     * @param methodArgs the method arguments
+     * @throws NullPointerException               if {@code methodName} is {@code null}
+     * @throws SelenideElementInvocationException if method not found
+     */
+    public PreparedOuterCommandOf(final String methodName,
+                                  final Object... methodArgs) {
+        this.methodName = Objects.requireNonNull(methodName, "methodName arg is null");
+        this.methodArgs = methodArgs;
+        this.method = Invocations.selenideElementMethod(methodName, methodArgs);
+    }
+
+    /**
+     * Returns the resolved method.
+     *
+     * @return the resolved method
+     */
+    final Method method() {
+        return this.method;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T executeOn(final SelenideElement element) {
+        final InvocationHandler invocationHandler = Invocations.handlerOf(element);
+        final Resolution resolution = this.resolutions.get(element.getClass());
+        return (T) Invocations.invoke(invocationHandler, element, resolution.method, resolution.adaptedArgs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Read-only methods that have JavaScript equivalent (e.g. {@code getText}, {@code getAttribute},
+     * {@code isDisplayed}, {@code getValue}) are executed on the whole collection in a single
+     * JavaScript call.</p>
+     */
+    @Override
+    public final List<T> executeOnAll(final ElementsCollection elements) {
+        final List<T> results = BulkScripts.executeOnAll(elements, this.methodName, this.methodArgs);
+        return results == null ? OuterCommand.super.executeOnAll(elements) : results;
+    }
+
+    /**
+     * Method and adapted arguments resolved for the proxy class.
+     */
+    private static final class Resolution {
+        private final Method method;
+        private final Object[] adaptedArgs;
+
+        private Resolution(final Method method,
+                           final Object[] adaptedArgs) {
+            this.method = method;
+            this.adaptedArgs = adaptedArgs;
+        }
+    }
+}
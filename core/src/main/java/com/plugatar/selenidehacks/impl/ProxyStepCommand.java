@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+
+/**
+ * Step of a composite command executed as a separate invocation of the element proxy, so the Selenide proxy
+ * retries only the failed step instead of the whole composite command. The step uses the shared cached locator,
+ * the cached element is dropped before each retry of the step.
+ *
+ * @param <T> the step return type
+ */
+@ParametersAreNonnullByDefault
+final class ProxyStepCommand<T> implements Command<T> {
+    private final Command<? extends T> step;
+    private final CachedWebElementSource locator;
+    private boolean attempted = false;
+
+    /**
+     * Ctor.
+     *
+     * @param step    the step
+     * @param locator the shared cached locator
+     */
+    private ProxyStepCommand(final Command<? extends T> step,
+                             final CachedWebElementSource locator) {
+        this.step = step;
+        this.locator = locator;
+    }
+
+    /**
+     * Executes given step as a separate invocation of given proxy. The step is executed directly if given proxy
+     * is not instantiated as a {@link java.lang.reflect.Proxy}.
+     *
+     * @param proxy   the element proxy
+     * @param locator the shared cached locator
+     * @param step    the step
+     * @param <T>     the step return type
+     * @return the step result
+     * @throws IOException if the step throws it
+     */
+    static <T> T execute(final SelenideElement proxy,
+                         final CachedWebElementSource locator,
+                         final Command<? extends T> step) throws IOException {
+        if (!Invocations.isProxy(proxy)) {
+            return step.execute(proxy, locator, NO_ARGS);
+        }
+        return new OuterCommandOf<T>(new ProxyStepCommand<>(step, locator)).executeOn(proxy);
+    }
+
+    /**
+     * Returns the step.
+     *
+     * @return the step
+     */
+    Command<? extends T> step() {
+        return this.step;
+    }
+
+    @Override
+    public T execute(final SelenideElement proxy,
+                     final WebElementSource ignoredLocator,
+                     final @Nullable Object[] ignoredArgs) throws IOException {
+        if (this.attempted) {
+            this.locator.invalidate();
+        }
+        this.attempted = true;
+        return this.step.execute(proxy, this.locator, NO_ARGS);
+    }
+}
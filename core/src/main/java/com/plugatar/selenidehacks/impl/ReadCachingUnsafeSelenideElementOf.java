@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CachingUnsafeSelenideElement;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CachingUnsafeSelenideElement} that memoizes results of read-only methods.
+ *
+ * <p>Results of the whitelisted methods are cached by method name and arguments until the TTL expires.
+ * Invocation of any other method (e.g. {@code click}, {@code setValue}, {@code append}, {@code execute})
+ * drops the whole cache before the invocation. Failures are not cached. Invocations made directly on
+ * {@link #asSelenideElement()} bypass the cache.</p>
+ *
+ * <p>Each cached result keeps the cache epoch at which its read started. The epoch is incremented before and
+ * after each mutating method invocation and on {@link #invalidate()}, so the result of a read that overlaps
+ * a mutation is never returned from the cache.</p>
+ */
+@ParametersAreNonnullByDefault
+public class ReadCachingUnsafeSelenideElementOf implements CachingUnsafeSelenideElement {
+
+    /**
+     * Default read-only methods whitelist.
+     */
+    public static final Set<String> DEFAULT_READ_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "getText", "text", "innerText", "innerHtml", "getOwnText", "getAttribute", "attr", "getDomAttribute",
+        "getDomProperty", "getValue", "val", "getTagName", "getCssValue", "isDisplayed", "isEnabled", "isSelected",
+        "exists", "is", "has", "getSize", "getLocation", "getRect", "getSelectedOption", "getSelectedText",
+        "getSelectedValue", "getSearchCriteria", "name", "data", "pseudo"
+    )));
+    private static final Object NULL_RESULT = new Object();
+    private final UnsafeSelenideElement origin;
+    private final Set<String> readMethods;
+    private final long ttlNanos;
+    private final ConcurrentMap<CacheKey, CachedResult> cache = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Ctor with {@link #DEFAULT_READ_METHODS} whitelist.
+     *
+     * @param origin the origin UnsafeSelenideElement
+     * @param ttl    the cached results time to live
+     * @throws NullPointerException     if {@code origin} or {@code ttl} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    public ReadCachingUnsafeSelenideElementOf(final UnsafeSelenideElement origin,
+                                              final Duration ttl) {
+        this(origin, ttl, DEFAULT_READ_METHODS);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin      the origin UnsafeSelenideElement
+     * @param ttl         the cached results time to live
+     * @param readMethods the read-only methods names whitelist
+     * @throws NullPointerException     if {@code origin} or {@code ttl} or {@code readMethods} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    public ReadCachingUnsafeSelenideElementOf(final UnsafeSelenideElement origin,
+                                              final Duration ttl,
+                                              final Set<String> readMethods) {
+        this.origin = Objects.requireNonNull(origin, "origin arg is null");
+        Objects.requireNonNull(ttl, "ttl arg is null");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl arg is negative");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.readMethods = Collections.unmodifiableSet(
+            new HashSet<>(Objects.requireNonNull(readMethods, "readMethods arg is null")));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final <ANY> ANY invoke(final String methodName,
+                                  final Object... methodArgs) {
+        if (methodName == null || !this.readMethods.contains(methodName)) {
+            this.dropCache();
+            try {
+                return this.origin.invoke(methodName, methodArgs);
+            } finally {
+                this.epoch.incrementAndGet();
+            }
+        }
+        final CacheKey key = new CacheKey(methodName, methodArgs);
+        final long now = System.nanoTime();
+        final long readEpoch = this.epoch.get();
+        final CachedResult cached = this.cache.get(key);
+        if (cached != null && cached.epoch == readEpoch && now - cached.createdNanos < this.ttlNanos) {
+            return (ANY) (cached.result == NULL_RESULT ? null : cached.result);
+        }
+        final Object result = this.origin.invoke(methodName, methodArgs);
+        final CachedResult stored = new CachedResult(result == null ? NULL_RESULT : result, now, readEpoch);
+        this.cache.put(key, stored);
+        if (this.epoch.get() != readEpoch) {
+            this.cache.remove(key, stored);
+        }
+        return (ANY) result;
+    }
+
+    @Override
+    public final void invalidate() {
+        this.dropCache();
+        if (this.origin instanceof CachingUnsafeSelenideElement) {
+            ((CachingUnsafeSelenideElement) this.origin).invalidate();
+        }
+    }
+
+    @Override
+    public final SelenideElement asSelenideElement() {
+        return this.origin.asSelenideElement();
+    }
+
+    private void dropCache() {
+        this.epoch.incrementAndGet();
+        this.cache.clear();
+    }
+
+    /**
+     * Method name and arguments.
+     */
+    private static final class CacheKey {
+        private final String methodName;
+        private final Object[] methodArgs;
+        private final int hash;
+
+        private CacheKey(final String methodName,
+                         final @Nullable Object[] methodArgs) {
+            this.methodName = methodName;
+            this.methodArgs = methodArgs == null ? new Object[0] : methodArgs.clone();
+            this.hash = 31 * methodName.hashCode() + Arrays.deepHashCode(this.methodArgs);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.methodName.equals(other.methodName) && Arrays.deepEquals(this.methodArgs, other.methodArgs);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Cached result, its creation time and the cache epoch of its read.
+     */
+    private static final class CachedResult {
+        private final Object result;
+        private final long createdNanos;
+        private final long epoch;
+
+        private CachedResult(final Object result,
+                             final long createdNanos,
+                             final long epoch) {
+            this.result = result;
+            this.createdNanos = createdNanos;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.RetryPolicy;
+import com.plugatar.selenidehacks.RetryingOuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retrying outer command implementation. Each retry executes the origin outer command on the element again,
+ * so the Selenide element proxy resolves the web element again.
+ *
+ * <p>If the policy has the attempt timeout or the budget and the origin command is an {@link OuterCommandOf}
+ * of a method with the timeout overload, each attempt is executed with the smallest of the attempt timeout and
+ * the rest of the budget. Otherwise the Selenide proxy waits up to the configured timeout in each attempt.</p>
+ *
+ * <p>Failure is thrown if the policy classifies it as {@link RetryPolicy.Decision#FAIL}, if the max attempts
+ * are reached or if the retry delay exceeds the rest of the budget. The first failure is added to the thrown
+ * failure as a suppressed exception.</p>
+ *
+ * @param <T> the command return type
+ */
+@ParametersAreNonnullByDefault
+public class RetryingOuterCommandOf<T> implements RetryingOuterCommand<T> {
+    private final OuterCommand<T> originCommand;
+    private final RetryPolicy policy;
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder immediateRetries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Ctor.
+     *
+     * @param originCommand the origin outer command
+     * @param policy        the retry policy
+     * @throws NullPointerException if {@code originCommand} or {@code policy} is {@code null}
+     */
+    public RetryingOuterCommandOf(final OuterCommand<T> originCommand,
+                                  final RetryPolicy policy) {
+        this.originCommand = Objects.requireNonNull(originCommand, "originCommand arg is null");
+        this.policy = Objects.requireNonNull(policy, "policy arg is null");
+    }
+
+    @Override
+    public final T executeOn(final SelenideElement element) {
+        final long start = System.nanoTime();
+        final long budgetNanos = this.policy.budgetNanos();
+        Throwable firstFailure = null;
+        int backoffRetryNumber = 0;
+        for (int attempt = 1; ; ++attempt) {
+            this.attempts.increment();
+            try {
+                final long restNanos = budgetNanos == Long.MAX_VALUE
+                    ? Long.MAX_VALUE
+                    : budgetNanos - (System.nanoTime() - start);
+                return this.attempt(element, Math.min(this.policy.attemptTimeoutNanos(), restNanos));
+            } catch (final RuntimeException | Error ex) {
+                if (firstFailure != null && firstFailure != ex) {
+                    ex.addSuppressed(firstFailure);
+                }
+                final RetryPolicy.Decision decision = this.policy.classify(ex);
+                if (decision == RetryPolicy.Decision.FAIL || attempt >= this.policy.maxAttempts()) {
+                    this.failures.increment();
+                    throw ex;
+                }
+                final long delayNanos = decision == RetryPolicy.Decision.RETRY_IMMEDIATELY
+                    ? 0L
+                    : this.policy.delayNanos(backoffRetryNumber++);
+                if (System.nanoTime() - start + delayNanos >= budgetNanos) {
+                    this.failures.increment();
+                    throw ex;
+                }
+                firstFailure = firstFailure == null ? ex : firstFailure;
+                this.retries.increment();
+                if (decision == RetryPolicy.Decision.RETRY_IMMEDIATELY) {
+                    this.immediateRetries.increment();
+                } else if (delayNanos > 0L) {
+                    sleep(delayNanos);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T attempt(final SelenideElement element,
+                      final long timeoutNanos) {
+        if (timeoutNanos == Long.MAX_VALUE || !(this.originCommand instanceof OuterCommandOf)) {
+            return this.originCommand.executeOn(element);
+        }
+        return ((OuterCommandOf<T>) this.originCommand)
+            .withTimeout(Duration.ofNanos(Math.max(timeoutNanos, 0L)))
+            .executeOn(element);
+    }
+
+    @Override
+    public final long attempts() {
+        return this.attempts.sum();
+    }
+
+    @Override
+    public final long retries() {
+        return this.retries.sum();
+    }
+
+    @Override
+    public final long immediateRetries() {
+        return this.immediateRetries.sum();
+    }
+
+    @Override
+    public final long failures() {
+        return this.failures.sum();
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SelenideElementInvocationException("Interrupted while waiting", ex);
+        }
+    }
+}
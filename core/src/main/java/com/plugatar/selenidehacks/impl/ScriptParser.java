@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Condition;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser of {@link com.plugatar.selenidehacks.CommandScript} text. Condition constants and factory methods
+ * are resolved and invoked while parsing, SelenideElement methods are resolved by {@link PreparedOuterCommandOf}.
+ * Arguments of each step and each Condition factory method are checked against the resolved method parameters,
+ * integer literals are widened to {@code long}, {@code float} and {@code double} parameters.
+ */
+@ParametersAreNonnullByDefault
+final class ScriptParser {
+    private static final Class<?>[] WIDENED_TYPES = {Long.class, Float.class, Double.class};
+    private final String script;
+    private int pos = 0;
+
+    /**
+     * Ctor.
+     *
+     * @param script the script text
+     */
+    ScriptParser(final String script) {
+        this.script = script;
+    }
+
+    /**
+     * Parses the script.
+     *
+     * @return steps
+     * @throws SelenideElementInvocationException if the script has syntax error or if method or condition
+     *                                            is not found
+     */
+    List<OuterCommand<?>> parse() {
+        final List<OuterCommand<?>> steps = new ArrayList<>();
+        while (true) {
+            this.skipWhitespaces();
+            if (this.pos == this.script.length()) {
+                return steps;
+            }
+            if (this.script.charAt(this.pos) == ';') {
+                this.pos++;
+                continue;
+            }
+            steps.add(this.step());
+        }
+    }
+
+    private OuterCommand<?> step() {
+        final int stepPos = this.pos;
+        final String methodName = this.identifier();
+        final List<Object> args = new ArrayList<>();
+        this.skipWhitespaces();
+        if (!this.isStepEnd()) {
+            while (true) {
+                args.add(this.value());
+                this.skipWhitespaces();
+                if (this.isStepEnd()) {
+                    break;
+                }
+                if (this.script.charAt(this.pos) != ',') {
+                    throw this.error(this.pos, "expected ',' or ';'");
+                }
+                this.pos++;
+                this.skipWhitespaces();
+            }
+        }
+        final Object[] stepArgs = args.toArray();
+        final PreparedOuterCommandOf<?> command;
+        try {
+            command = new PreparedOuterCommandOf<>(methodName, stepArgs);
+        } catch (final SelenideElementInvocationException ex) {
+            throw this.error(stepPos, ex.getMessage());
+        }
+        if (applicableArgs(command.method(), stepArgs, false) != null) {
+            return command;
+        }
+        final Object[] widenedArgs = applicableArgs(command.method(), stepArgs, true);
+        if (widenedArgs != null) {
+            return new PreparedOuterCommandOf<>(methodName, widenedArgs);
+        }
+        for (final Class<?> type : WIDENED_TYPES) {
+            final Object[] candidateArgs = widenedIntegers(stepArgs, type);
+            if (candidateArgs != null) {
+                final PreparedOuterCommandOf<?> candidate = new PreparedOuterCommandOf<>(methodName, candidateArgs);
+                if (applicableArgs(candidate.method(), candidateArgs, false) != null) {
+                    return candidate;
+                }
+            }
+        }
+        throw this.error(stepPos, "SelenideElement method " + signature(command.method())
+            + " is not applicable to arguments " + argTypes(stepArgs));
+    }
+
+    private boolean isStepEnd() {
+        return this.pos == this.script.length() || this.script.charAt(this.pos) == ';';
+    }
+
+    @Nullable
+    private Object value() {
+        final char ch = this.peek();
+        if (ch == '"') {
+            return this.string();
+        }
+        if (ch == '-' || Character.isDigit(ch)) {
+            return this.number();
+        }
+        final int valuePos = this.pos;
+        final String name = this.identifier();
+        switch (name) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                break;
+        }
+        this.skipWhitespaces();
+        if (this.pos != this.script.length() && this.script.charAt(this.pos) == '(') {
+            this.pos++;
+            final List<Object> args = new ArrayList<>();
+            this.skipWhitespaces();
+            if (this.peek() != ')') {
+                while (true) {
+                    args.add(this.value());
+                    this.skipWhitespaces();
+                    final char next = this.peek();
+                    this.pos++;
+                    if (next == ')') {
+                        break;
+                    }
+                    if (next != ',') {
+                        throw this.error(this.pos - 1, "expected ',' or ')'");
+                    }
+                    this.skipWhitespaces();
+                }
+            } else {
+                this.pos++;
+            }
+            return this.conditionOf(valuePos, name, args.toArray());
+        }
+        return this.conditionConstant(valuePos, name);
+    }
+
+    private String string() {
+        final StringBuilder builder = new StringBuilder();
+        final int stringPos = this.pos++;
+        while (true) {
+            if (this.pos == this.script.length()) {
+                throw this.error(stringPos, "unterminated string");
+            }
+            final char ch = this.script.charAt(this.pos++);
+            if (ch == '"') {
+                return builder.toString();
+            }
+            if (ch != '\\') {
+                builder.append(ch);
+                continue;
+            }
+            if (this.pos == this.script.length()) {
+                throw this.error(stringPos, "unterminated string");
+            }
+            final char escaped = this.script.charAt(this.pos++);
+            switch (escaped) {
+                case '"':
+                case '\\':
+                    builder.append(escaped);
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                default:
+                    throw this.error(this.pos - 2, "unknown escape sequence");
+            }
+        }
+    }
+
+    private Object number() {
+        final int numberPos = this.pos;
+        if (this.script.charAt(this.pos) == '-') {
+            this.pos++;
+        }
+        this.digits(numberPos);
+        boolean decimal = false;
+        if (this.pos != this.script.length() && this.script.charAt(this.pos) == '.') {
+            this.pos++;
+            this.digits(numberPos);
+            decimal = true;
+        }
+        final String number = this.script.substring(numberPos, this.pos);
+        final int unitPos = this.pos;
+        while (this.pos != this.script.length() && Character.isLetter(this.script.charAt(this.pos))) {
+            this.pos++;
+        }
+        final String unit = this.script.substring(unitPos, this.pos);
+        try {
+            if (decimal) {
+                if (!unit.isEmpty()) {
+                    throw this.error(numberPos, "duration must be an integer");
+                }
+                return Double.valueOf(number);
+            }
+            final long value = Long.parseLong(number);
+            switch (unit) {
+                case "":
+                    return value == (int) value ? (Object) (int) value : (Object) value;
+                case "ms":
+                    return Duration.ofMillis(value);
+                case "s":
+                    return Duration.ofSeconds(value);
+                case "m":
+                    return Duration.ofMinutes(value);
+                default:
+                    throw this.error(unitPos, "unknown duration unit '" + unit + "'");
+            }
+        } catch (final NumberFormatException ex) {
+            throw this.error(numberPos, "invalid number");
+        } catch (final ArithmeticException ex) {
+            throw this.error(numberPos, "duration is out of range");
+        }
+    }
+
+    private void digits(final int numberPos) {
+        final int start = this.pos;
+        while (this.pos != this.script.length() && Character.isDigit(this.script.charAt(this.pos))) {
+            this.pos++;
+        }
+        if (start == this.pos) {
+            throw this.error(numberPos, "invalid number");
+        }
+    }
+
+    private String identifier() {
+        final int start = this.pos;
+        if (this.pos != this.script.length() && Character.isJavaIdentifierStart(this.script.charAt(this.pos))) {
+            this.pos++;
+            while (this.pos != this.script.length()
+                && Character.isJavaIdentifierPart(this.script.charAt(this.pos))) {
+                this.pos++;
+            }
+        }
+        if (start == this.pos) {
+            throw this.error(start, "expected identifier");
+        }
+        return this.script.substring(start, this.pos);
+    }
+
+    private char peek() {
+        if (this.pos == this.script.length()) {
+            throw this.error(this.pos, "unexpected end of script");
+        }
+        return this.script.charAt(this.pos);
+    }
+
+    private void skipWhitespaces() {
+        while (this.pos != this.script.length() && Character.isWhitespace(this.script.charAt(this.pos))) {
+            this.pos++;
+        }
+    }
+
+    private Condition conditionConstant(final int valuePos,
+                                        final String name) {
+        try {
+            final Field field = Condition.class.getField(name);
+            if (Modifier.isStatic(field.getModifiers()) && Condition.class.isAssignableFrom(field.getType())) {
+                return (Condition) field.get(null);
+            }
+        } catch (final NoSuchFieldException | IllegalAccessException ignored) {
+            /* not found */
+        }
+        throw this.error(valuePos, "Not found Condition constant by name: " + name);
+    }
+
+    private Condition conditionOf(final int valuePos,
+                                  final String name,
+                                  final Object[] args) {
+        Method method = null;
+        Object[] methodArgs = null;
+        for (int pass = 0; pass < 2 && methodArgs == null; ++pass) {
+            for (final Method candidate : Condition.class.getMethods()) {
+                if (Modifier.isStatic(candidate.getModifiers()) && candidate.getName().equals(name)
+                    && Condition.class.isAssignableFrom(candidate.getReturnType())) {
+                    methodArgs = applicableArgs(candidate, args, pass == 1);
+                    if (methodArgs != null) {
+                        method = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        if (method == null) {
+            throw this.error(valuePos, "Not found Condition method by name and arguments: " + name);
+        }
+        try {
+            return (Condition) method.invoke(null, Invocations.adaptArgs(method, methodArgs));
+        } catch (final InvocationTargetException ex) {
+            throw this.error(valuePos, "Condition " + name + " failed: " + ex.getCause());
+        } catch (final IllegalAccessException ex) {
+            throw this.error(valuePos, "Condition " + name + " is not accessible");
+        }
+    }
+
+    /**
+     * Returns given arguments if they are applicable to given method by the fixed or variable arity.
+     *
+     * @param method   the method
+     * @param args     the arguments
+     * @param widening whether to widen integer arguments to {@code long}, {@code float} and {@code double}
+     * @return arguments (widened if needed) or {@code null} if arguments are not applicable
+     */
+    @Nullable
+    private static Object[] applicableArgs(final Method method,
+                                           final Object[] args,
+                                           final boolean widening) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final int fixedCount = method.isVarArgs() ? parameterTypes.length - 1 : parameterTypes.length;
+        if (method.isVarArgs() ? args.length < fixedCount : args.length != fixedCount) {
+            return null;
+        }
+        Object[] result = args;
+        for (int idx = 0; idx < args.length; ++idx) {
+            final Class<?> parameterType = idx < fixedCount
+                ? parameterTypes[idx]
+                : parameterTypes[fixedCount].getComponentType();
+            final Object arg = args[idx];
+            if (arg == null) {
+                if (parameterType.isPrimitive()) {
+                    return null;
+                }
+            } else if (!boxed(parameterType).isInstance(arg)) {
+                final Object widenedArg = widening ? widened(boxed(parameterType), arg) : null;
+                if (widenedArg == null) {
+                    return null;
+                }
+                result = result == args ? args.clone() : result;
+                result[idx] = widenedArg;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Object[] widenedIntegers(final Object[] args,
+                                            final Class<?> type) {
+        Object[] result = null;
+        for (int idx = 0; idx < args.length; ++idx) {
+            if (args[idx] instanceof Integer) {
+                result = result == null ? args.clone() : result;
+                result[idx] = widened(type, args[idx]);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Object widened(final Class<?> type,
+                                  final Object arg) {
+        if (arg instanceof Integer || arg instanceof Long) {
+            final long value = ((Number) arg).longValue();
+            if (type == Long.class) {
+                return value;
+            } else if (type == Double.class) {
+                return (double) value;
+            } else if (type == Float.class) {
+                return (float) value;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> boxed(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        }
+        return Void.class;
+    }
+
+    private static String signature(final Method method) {
+        final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int idx = 0; idx < parameterTypes.length; ++idx) {
+            if (idx != 0) {
+                builder.append(", ");
+            }
+            builder.append(method.isVarArgs() && idx == parameterTypes.length - 1
+                ? parameterTypes[idx].getComponentType().getSimpleName() + "..."
+                : parameterTypes[idx].getSimpleName());
+        }
+        return builder.append(')').toString();
+    }
+
+    private static String argTypes(final Object[] args) {
+        final StringBuilder builder = new StringBuilder("(");
+        for (int idx = 0; idx < args.length; ++idx) {
+            if (idx != 0) {
+                builder.append(", ");
+            }
+            builder.append(args[idx] == null ? "null" : args[idx].getClass().getSimpleName());
+        }
+        return builder.append(')').toString();
+    }
+
+    private SelenideElementInvocationException error(final int errorPos,
+                                                     final String message) {
+        return ValidationErrors.error("Script error at position " + errorPos + ": " + message);
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * SelenideElement methods signatures grouped by method name and sorted
+ * by parameters count and types.
+ *
+ * <p>Generated by {@code SelenideElementDispatchGenerator}, do not edit.
+ * Regenerate after the Selenide version update via
+ * {@code mvn -P generate-dispatch process-test-classes}.</p>
+ */
+@ParametersAreNonnullByDefault
+final class SelenideElementDispatch {
+    static final String SELENIDE_VERSION = "6.10.1";
+
+    /**
+     * Utility class ctor.
+     */
+    private SelenideElementDispatch() {
+    }
+
+    /**
+     * Returns parameter types of SelenideElement methods with given name.
+     *
+     * @param methodName the method name
+     * @return parameter types of methods or {@code null} if there is no method with given name
+     */
+    @Nullable
+    static Class<?>[][] signaturesOf(final String methodName) {
+        switch (methodName) {
+            case "$":
+                return new Class<?>[][]{
+                    {String.class},
+                    {org.openqa.selenium.By.class},
+                    {String.class, int.class},
+                    {org.openqa.selenium.By.class, int.class},
+                };
+            case "$$":
+                return new Class<?>[][]{
+                    {String.class},
+                    {org.openqa.selenium.By.class},
+                };
+            case "$$x":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "$x":
+                return new Class<?>[][]{
+                    {String.class},
+                    {String.class, int.class},
+                };
+            case "ancestor":
+                return new Class<?>[][]{
+                    {String.class},
+                    {String.class, int.class},
+                };
+            case "append":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "as":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "attr":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "clear":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "click":
+                return new Class<?>[][]{
+                    {},
+                    {com.codeborne.selenide.ClickOptions.class},
+                };
+            case "closest":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "contextClick":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "data":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "doubleClick":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "download":
+                return new Class<?>[][]{
+                    {},
+                    {com.codeborne.selenide.DownloadOptions.class},
+                    {com.codeborne.selenide.files.FileFilter.class},
+                    {long.class},
+                    {long.class, com.codeborne.selenide.files.FileFilter.class},
+                };
+            case "dragAndDropTo":
+                return new Class<?>[][]{
+                    {String.class},
+                    {org.openqa.selenium.WebElement.class},
+                    {String.class, com.codeborne.selenide.DragAndDropOptions.class},
+                };
+            case "execute":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Command.class},
+                    {com.codeborne.selenide.Command.class, java.time.Duration.class},
+                };
+            case "exists":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "find":
+                return new Class<?>[][]{
+                    {String.class},
+                    {org.openqa.selenium.By.class},
+                    {String.class, int.class},
+                    {org.openqa.selenium.By.class, int.class},
+                };
+            case "findAll":
+                return new Class<?>[][]{
+                    {String.class},
+                    {org.openqa.selenium.By.class},
+                };
+            case "findElement":
+                return new Class<?>[][]{
+                    {org.openqa.selenium.By.class},
+                };
+            case "findElements":
+                return new Class<?>[][]{
+                    {org.openqa.selenium.By.class},
+                };
+            case "getAccessibleName":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getAlias":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getAriaRole":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getAttribute":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "getCoordinates":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getCssValue":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "getDomAttribute":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "getDomProperty":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "getLocation":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getOwnText":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getRect":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getScreenshotAs":
+                return new Class<?>[][]{
+                    {org.openqa.selenium.OutputType.class},
+                };
+            case "getSearchCriteria":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedOption":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedOptionText":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedOptionValue":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedOptions":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedText":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSelectedValue":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getShadowRoot":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getSize":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getTagName":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getText":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getValue":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getWrappedDriver":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "getWrappedElement":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "has":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition.class},
+                };
+            case "hover":
+                return new Class<?>[][]{
+                    {},
+                    {com.codeborne.selenide.HoverOptions.class},
+                };
+            case "innerHtml":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "innerText":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "is":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition.class},
+                };
+            case "isDisplayed":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "isEnabled":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "isImage":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "isSelected":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "lastChild":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "name":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "parent":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "preceding":
+                return new Class<?>[][]{
+                    {int.class},
+                };
+            case "pressEnter":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "pressEscape":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "pressTab":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "pseudo":
+                return new Class<?>[][]{
+                    {String.class},
+                    {String.class, String.class},
+                };
+            case "screenshot":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "screenshotAsImage":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "scrollIntoView":
+                return new Class<?>[][]{
+                    {boolean.class},
+                    {String.class},
+                };
+            case "scrollTo":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "selectOption":
+                return new Class<?>[][]{
+                    {String.class, String[].class},
+                    {int.class, int[].class},
+                };
+            case "selectOptionByValue":
+                return new Class<?>[][]{
+                    {String.class, String[].class},
+                };
+            case "selectOptionContainingText":
+                return new Class<?>[][]{
+                    {String.class, String[].class},
+                };
+            case "selectRadio":
+                return new Class<?>[][]{
+                    {String.class},
+                };
+            case "sendKeys":
+                return new Class<?>[][]{
+                    {CharSequence[].class},
+                };
+            case "setSelected":
+                return new Class<?>[][]{
+                    {boolean.class},
+                };
+            case "setValue":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.SetValueOptions.class},
+                    {String.class},
+                };
+            case "should":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "shouldBe":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "shouldHave":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "shouldNot":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "shouldNotBe":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "shouldNotHave":
+                return new Class<?>[][]{
+                    {com.codeborne.selenide.Condition[].class},
+                    {com.codeborne.selenide.Condition.class, java.time.Duration.class},
+                };
+            case "sibling":
+                return new Class<?>[][]{
+                    {int.class},
+                };
+            case "submit":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "text":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "toString":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "toWebElement":
+                return new Class<?>[][]{
+                    {},
+                };
+            case "uploadFile":
+                return new Class<?>[][]{
+                    {java.io.File[].class},
+                };
+            case "uploadFromClasspath":
+                return new Class<?>[][]{
+                    {String[].class},
+                };
+            case "val":
+                return new Class<?>[][]{
+                    {},
+                    {String.class},
+                };
+            default:
+                return null;
+        }
+    }
+}
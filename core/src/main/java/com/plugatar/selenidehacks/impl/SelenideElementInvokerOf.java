@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import com.plugatar.selenidehacks.SelenideElementInvoker;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Default implementation of {@link SelenideElementInvoker} based on {@link MethodHandle}.
+ *
+ * <p>The method is resolved once in the ctor, so invocations skip the method lookup. Each invocation still
+ * passes the arguments as an array and goes through the invocation handler of the element
+ * {@link java.lang.reflect.Proxy}, like {@link com.plugatar.selenidehacks.UnsafeSelenideElement#invoke(String, Object...)} does.</p>
+ *
+ * @param <T> the method return type
+ */
+@ParametersAreNonnullByDefault
+public class SelenideElementInvokerOf<T> implements SelenideElementInvoker<T> {
+    private final MethodHandle methodHandle;
+    private final int parameterCount;
+
+    /**
+     * Ctor.
+     *
+     * @param methodName     the method name
+     * @param parameterTypes the method parameter types
+     * @throws NullPointerException               if {@code methodName} or {@code parameterTypes} is {@code null}
+     * @throws SelenideElementInvocationException if method not found
+     */
+    public SelenideElementInvokerOf(final String methodName,
+                                    final Class<?>... parameterTypes) {
+        Objects.requireNonNull(methodName, "methodName arg is null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes arg is null");
+        final Method method = MethodIndex.selenideElementIndex().find(methodName, parameterTypes);
+        if (method == null) {
+            throw ValidationErrors.error(
+                "Not found SelenideElement method: " + methodName + Arrays.toString(parameterTypes)
+            );
+        }
+        try {
+            this.methodHandle = MethodHandles.publicLookup().unreflect(method)
+                .asType(MethodType.genericMethodType(parameterTypes.length + 1)
+                    .changeParameterType(0, SelenideElement.class))
+                .asSpreader(Object[].class, parameterTypes.length);
+        } catch (final IllegalAccessException ex) {
+            throw new SelenideElementInvocationException(ex);
+        }
+        this.parameterCount = parameterTypes.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T invokeOn(final SelenideElement element,
+                            final Object... methodArgs) {
+        if (element == null) { throw ValidationErrors.error("element arg is null"); }
+        final Object[] args = methodArgs == null ? new Object[this.parameterCount] : methodArgs;
+        if (args.length != this.parameterCount) {
+            throw ValidationErrors.error(
+                "Wrong number of arguments: expected " + this.parameterCount + " but was " + args.length
+            );
+        }
+        try {
+            return (T) this.methodHandle.invokeExact(element, args);
+        } catch (final Throwable ex) {
+            throw Invocations.rethrow(ex);
+        }
+    }
+}
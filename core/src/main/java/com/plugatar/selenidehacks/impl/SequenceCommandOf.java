@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command that executes the sequence of commands against one resolved {@link org.openqa.selenium.WebElement}.
+ *
+ * <p>The element is resolved through the locator once for the whole sequence. Each command is executed as
+ * a separate invocation of the element proxy, so the Selenide proxy retries only the failed command and
+ * the commands before it are not repeated, the element is resolved again before each retry. Each command is
+ * executed with {@link Command#NO_ARGS}, use {@link CustomArgsCommandOf} to pass arguments.</p>
+ *
+ * <p>Prefer {@link #executeOn(SelenideElement)} method. If this command is executed via
+ * {@link SelenideElement#execute(Command, java.time.Duration)} with a timeout longer than the configured one,
+ * the Selenide proxy can repeat the whole sequence after the failed command timeout.</p>
+ *
+ * <p>If the proxy is not instantiated as a {@link java.lang.reflect.Proxy}, commands are executed directly and
+ * a command failed with {@link StaleElementReferenceException} is repeated once with the element resolved
+ * again.</p>
+ */
+@ParametersAreNonnullByDefault
+public class SequenceCommandOf implements Command<List<Object>>, OuterCommand<List<Object>> {
+    private final List<Command<?>> commands;
+
+    /**
+     * Ctor.
+     *
+     * @param commands the commands
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     */
+    public SequenceCommandOf(final Command<?>... commands) {
+        this(Arrays.asList(Objects.requireNonNull(commands, "commands arg is null")));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param commands the commands
+     * @throws NullPointerException if {@code commands} or any of commands is {@code null}
+     */
+    public SequenceCommandOf(final List<? extends Command<?>> commands) {
+        Objects.requireNonNull(commands, "commands arg is null");
+        final List<Command<?>> list = new ArrayList<>(commands.size());
+        for (final Command<?> command : commands) {
+            list.add(Objects.requireNonNull(command, "commands arg contains null"));
+        }
+        this.commands = Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public final List<Object> execute(final SelenideElement proxy,
+                                      final WebElementSource locator,
+                                      final @Nullable Object[] ignoredArgs) throws IOException {
+        final CachedWebElementSource cachedLocator = new CachedWebElementSource(locator);
+        if (Invocations.isProxy(proxy)) {
+            return this.executeSteps(proxy, cachedLocator);
+        }
+        final List<Object> results = new ArrayList<>(this.commands.size());
+        boolean reResolved = false;
+        for (final Command<?> command : this.commands) {
+            Object result;
+            try {
+                result = command.execute(proxy, cachedLocator, NO_ARGS);
+            } catch (final StaleElementReferenceException ex) {
+                if (reResolved) { throw ex; }
+                reResolved = true;
+                cachedLocator.invalidate();
+                result = command.execute(proxy, cachedLocator, NO_ARGS);
+            }
+            results.add(result);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Executes the sequence on given element without the Selenide proxy retry of the whole sequence.
+     *
+     * @param element the element
+     * @return the list of commands results
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a Proxy
+     */
+    @Override
+    public final List<Object> executeOn(final SelenideElement element) {
+        final CachedWebElementSource cachedLocator = new CachedWebElementSource(WebElementSources.of(element));
+        try {
+            return this.executeSteps(element, cachedLocator);
+        } catch (final IOException ex) {
+            throw Invocations.rethrow(ex);
+        }
+    }
+
+    private List<Object> executeSteps(final SelenideElement proxy,
+                                      final CachedWebElementSource cachedLocator) throws IOException {
+        final List<Object> results = new ArrayList<>(this.commands.size());
+        for (final Command<?> command : this.commands) {
+            results.add(ProxyStepCommand.execute(proxy, cachedLocator, command));
+        }
+        return Collections.unmodifiableList(results);
+    }
+}
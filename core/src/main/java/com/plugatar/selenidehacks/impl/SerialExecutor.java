@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor that runs tasks one at a time in submission order on the backing executor.
+ *
+ * <p>No thread is occupied while the queue is empty.</p>
+ */
+@ParametersAreNonnullByDefault
+final class SerialExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Executor backingExecutor;
+
+    /**
+     * Ctor.
+     *
+     * @param backingExecutor the backing executor
+     * @throws NullPointerException if {@code backingExecutor} is {@code null}
+     */
+    SerialExecutor(final Executor backingExecutor) {
+        this.backingExecutor = Objects.requireNonNull(backingExecutor, "backingExecutor arg is null");
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.tasks.add(Objects.requireNonNull(task, "task arg is null"));
+        if (this.pendingCount.getAndIncrement() == 0) {
+            this.backingExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            final Runnable task = this.tasks.poll();
+            try {
+                task.run();
+            } catch (final RuntimeException | Error ex) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+            }
+        } while (this.pendingCount.decrementAndGet() != 0);
+    }
+}
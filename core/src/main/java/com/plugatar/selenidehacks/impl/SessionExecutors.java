@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class providing one serial executor per WebDriver session.
+ *
+ * <p>The session is identified by the {@link Driver} of the element. Tasks of one session are executed
+ * one at a time in submission order, tasks of different sessions are executed concurrently. Executors
+ * are backed by virtual threads if the JVM supports them (Java 21+), otherwise by cached daemon threads.</p>
+ *
+ * <p>Elements have to be bound to an explicit {@link com.codeborne.selenide.SelenideDriver} because the
+ * static Selenide driver is thread-local.</p>
+ */
+@ParametersAreNonnullByDefault
+public final class SessionExecutors {
+    private static final String STATIC_DRIVER_CLASS_NAME = "com.codeborne.selenide.impl.StaticDriver";
+    private static final Executor BACKING_EXECUTOR = backingExecutor();
+    private static final Map<Driver, Executor> EXECUTORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Utility class ctor.
+     */
+    private SessionExecutors() {
+    }
+
+    /**
+     * Returns serial executor of the WebDriver session of given element.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link java.lang.reflect.Proxy}
+     * @return serial executor of the session
+     * @throws SelenideElementInvocationException if {@code element} is {@code null},
+     *                                            if {@code element} is not instantiated as a Proxy
+     *                                            or if {@code element} is bound to the static Selenide driver
+     */
+    public static Executor of(final @Nullable SelenideElement element) {
+        return ofDriver(driverOf(element));
+    }
+
+    /**
+     * Returns the Driver of given element.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link java.lang.reflect.Proxy}
+     * @return the Driver
+     * @throws SelenideElementInvocationException if {@code element} is {@code null},
+     *                                            if {@code element} is not instantiated as a Proxy
+     *                                            or if {@code element} is bound to the static Selenide driver
+     */
+    static Driver driverOf(final @Nullable SelenideElement element) {
+        final Driver driver = WebElementSources.of(element).driver();
+        if (driver.getClass().getName().equals(STATIC_DRIVER_CLASS_NAME)) {
+            throw ValidationErrors.error(
+                "element arg is bound to the thread-local static driver, use SelenideDriver instead");
+        }
+        return driver;
+    }
+
+    /**
+     * Returns serial executor of given Driver.
+     *
+     * @param driver the Driver
+     * @return serial executor of given Driver
+     */
+    static Executor ofDriver(final Driver driver) {
+        return EXECUTORS.computeIfAbsent(driver, key -> new SerialExecutor(BACKING_EXECUTOR));
+    }
+
+    private static Executor backingExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            final ThreadFactory threadFactory = task -> {
+                final Thread thread = new Thread(task, "selenide-hacks-session-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+}
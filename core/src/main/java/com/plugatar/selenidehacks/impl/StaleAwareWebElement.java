@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link WebElement} decorator that invalidates the {@link CachedWebElementSource} if the origin
+ * element fails with {@link StaleElementReferenceException}.
+ *
+ * <p>WebDriver unwraps {@link WrapsElement} script arguments, so the decorator can be passed to
+ * JavaScript calls.</p>
+ */
+@ParametersAreNonnullByDefault
+final class StaleAwareWebElement implements WebElement, WrapsElement, Locatable {
+    private final WebElement origin;
+    private final CachedWebElementSource source;
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin element
+     * @param source the source to invalidate
+     */
+    StaleAwareWebElement(final WebElement origin,
+                         final CachedWebElementSource source) {
+        this.origin = origin;
+        this.source = source;
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return this.origin;
+    }
+
+    @Override
+    public void click() {
+        this.call(() -> {
+            this.origin.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        this.call(() -> {
+            this.origin.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(final CharSequence... keysToSend) {
+        this.call(() -> {
+            this.origin.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        this.call(() -> {
+            this.origin.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return this.call(this.origin::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(final String name) {
+        return this.call(() -> this.origin.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(final String name) {
+        return this.call(() -> this.origin.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(final String name) {
+        return this.call(() -> this.origin.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return this.call(this.origin::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return this.call(this.origin::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return this.call(this.origin::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.call(this.origin::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return this.call(this.origin::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(final By by) {
+        return this.call(() -> this.origin.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(final By by) {
+        return this.call(() -> this.origin.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return this.call(this.origin::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return this.call(this.origin::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return this.call(this.origin::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return this.call(this.origin::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return this.call(this.origin::getRect);
+    }
+
+    @Override
+    public String getCssValue(final String propertyName) {
+        return this.call(() -> this.origin.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(final OutputType<X> target) {
+        return this.call(() -> this.origin.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        if (this.origin instanceof Locatable) {
+            return this.call(((Locatable) this.origin)::getCoordinates);
+        }
+        throw new UnsupportedOperationException("Origin element is not Locatable");
+    }
+
+    /**
+     * Returns JSON representation of the origin element for WebDriver commands serialization.
+     *
+     * @return JSON representation of the origin element
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> toJson() {
+        try {
+            final Method toJson = this.origin.getClass().getMethod("toJson");
+            return (Map<String, Object>) toJson.invoke(this.origin);
+        } catch (final ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException("Origin element cannot be converted to JSON", ex);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || this.origin.equals(obj instanceof WrapsElement
+            ? ((WrapsElement) obj).getWrappedElement()
+            : obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.origin.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    private <T> T call(final Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (final StaleElementReferenceException ex) {
+            this.source.invalidate();
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Invocation trace binary format.
+ *
+ * <p>File: magic int, version byte, records, optional zero bytes. Record: record tag byte, body length int and
+ * body: stream id (varint), start offset (varlong, nanoseconds from the recording start), duration (varlong,
+ * nanoseconds), name (string), method name (string), arguments count plus one (varint, {@code 0} for {@code null}
+ * arguments), arguments (values), status byte and the result (value) or the failure class name (string).
+ * The record tag is written after the length and the body, so the {@code 0} record tag ends the trace: the
+ * zero-filled tail of the file being recorded and records whose writing is not completed are not read.</p>
+ *
+ * <p>Each recording thread writes its own stream of records with its own string table. Strings are written once
+ * per stream: {@code 0} varint followed by length varint and UTF-8 bytes defines the next string id, any other
+ * varint refers to the string id. The string table has at most {@value #MAX_STRINGS} strings, the
+ * {@link #RESET_RECORD_TAG} record tag clears the stream string table before the record. Values are tagged,
+ * objects that cannot be restored are written as their class names and read as {@link Opaque} objects.</p>
+ */
+@ParametersAreNonnullByDefault
+final class TraceFormat {
+    static final int MAGIC = 0x53485452;
+    static final byte VERSION = 3;
+    static final byte END_TAG = 0;
+    static final byte RECORD_TAG = 1;
+    static final byte RESET_RECORD_TAG = 2;
+    static final int RECORD_HEADER_SIZE = 5;
+    static final int MAX_STRINGS = 4096;
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_FAILURE = 1;
+    private static final byte NULL_TAG = 0;
+    private static final byte TRUE_TAG = 1;
+    private static final byte FALSE_TAG = 2;
+    private static final byte INT_TAG = 3;
+    private static final byte LONG_TAG = 4;
+    private static final byte DOUBLE_TAG = 5;
+    private static final byte STRING_TAG = 6;
+    private static final byte DURATION_TAG = 7;
+    private static final byte ARRAY_TAG = 8;
+    private static final byte OPAQUE_TAG = 9;
+
+    /**
+     * Utility class ctor.
+     */
+    private TraceFormat() {
+    }
+
+    /**
+     * Growable output buffer with string table.
+     */
+    static final class Output {
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private byte[] bytes = new byte[256];
+        private int size = 0;
+
+        byte[] bytes() {
+            return this.bytes;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        int stringsCount() {
+            return this.stringIds.size();
+        }
+
+        void reset() {
+            this.size = 0;
+        }
+
+        /**
+         * Clears the string table, e.g. if the record defining strings is not written.
+         */
+        void clearStrings() {
+            this.stringIds.clear();
+        }
+
+        /**
+         * Clears the string table if it is full.
+         *
+         * @return {@code true} if the string table is cleared
+         */
+        boolean resetStringsIfFull() {
+            if (this.stringIds.size() < MAX_STRINGS) {
+                return false;
+            }
+            this.stringIds.clear();
+            return true;
+        }
+
+        void writeByte(final int value) {
+            this.ensureCapacity(1);
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        void writeInt(final int value) {
+            this.writeByte(value >>> 24);
+            this.writeByte(value >>> 16);
+            this.writeByte(value >>> 8);
+            this.writeByte(value);
+        }
+
+        void setInt(final int offset,
+                    final int value) {
+            this.bytes[offset] = (byte) (value >>> 24);
+            this.bytes[offset + 1] = (byte) (value >>> 16);
+            this.bytes[offset + 2] = (byte) (value >>> 8);
+            this.bytes[offset + 3] = (byte) value;
+        }
+
+        void writeVarLong(final long value) {
+            long rest = value;
+            while ((rest & ~0x7FL) != 0L) {
+                this.writeByte((int) ((rest & 0x7FL) | 0x80L));
+                rest >>>= 7;
+            }
+            this.writeByte((int) rest);
+        }
+
+        void writeString(final String value) {
+            final Integer id = this.stringIds.get(value);
+            if (id != null) {
+                this.writeVarLong(id);
+            } else {
+                this.stringIds.put(value, this.stringIds.size() + 1);
+                final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                this.writeVarLong(0L);
+                this.writeVarLong(utf8.length);
+                this.ensureCapacity(utf8.length);
+                System.arraycopy(utf8, 0, this.bytes, this.size, utf8.length);
+                this.size += utf8.length;
+            }
+        }
+
+        void writeValue(final @Nullable Object value) {
+            if (value == null) {
+                this.writeByte(NULL_TAG);
+            } else if (value instanceof Boolean) {
+                this.writeByte((Boolean) value ? TRUE_TAG : FALSE_TAG);
+            } else if (value instanceof Integer) {
+                this.writeByte(INT_TAG);
+                this.writeVarLong(zigZag((Integer) value));
+            } else if (value instanceof Long) {
+                this.writeByte(LONG_TAG);
+                this.writeVarLong(zigZag((Long) value));
+            } else if (value instanceof Double) {
+                this.writeByte(DOUBLE_TAG);
+                final long bits = Double.doubleToRawLongBits((Double) value);
+                this.writeInt((int) (bits >>> 32));
+                this.writeInt((int) bits);
+            } else if (value instanceof String) {
+                this.writeByte(STRING_TAG);
+                this.writeString((String) value);
+            } else if (value instanceof Duration) {
+                this.writeByte(DURATION_TAG);
+                this.writeVarLong(zigZag(durationNanos((Duration) value)));
+            } else if (value instanceof Object[]) {
+                final Object[] array = (Object[]) value;
+                this.writeByte(ARRAY_TAG);
+                this.writeString(array.getClass().getComponentType().getName());
+                this.writeVarLong(array.length);
+                for (final Object element : array) {
+                    this.writeValue(element);
+                }
+            } else {
+                this.writeByte(OPAQUE_TAG);
+                this.writeString(value.getClass().getName());
+            }
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (this.size + additional > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + additional));
+            }
+        }
+    }
+
+    /**
+     * Input buffer with string table.
+     */
+    static final class Input {
+        private final Map<Integer, List<String>> streams = new HashMap<>();
+        private final ByteBuffer buffer;
+        private List<String> strings = new ArrayList<>();
+
+        Input(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean hasRemaining() {
+            return this.buffer.hasRemaining();
+        }
+
+        int remaining() {
+            return this.buffer.remaining();
+        }
+
+        int position() {
+            return this.buffer.position();
+        }
+
+        void limit(final int newLimit) {
+            this.buffer.limit(newLimit);
+        }
+
+        int limit() {
+            return this.buffer.limit();
+        }
+
+        /**
+         * Selects the string table of given stream.
+         *
+         * @param streamId     the stream id
+         * @param resetStrings whether to clear the string table
+         */
+        void selectStream(final int streamId,
+                          final boolean resetStrings) {
+            this.strings = this.streams.computeIfAbsent(streamId, id -> new ArrayList<>());
+            if (resetStrings) {
+                this.strings.clear();
+            }
+        }
+
+        byte readByte() {
+            return this.buffer.get();
+        }
+
+        int readInt() {
+            return this.buffer.getInt();
+        }
+
+        long readVarLong() {
+            long result = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte value = this.buffer.get();
+                result |= (long) (value & 0x7F) << shift;
+                if ((value & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalStateException("Malformed varlong");
+        }
+
+        String readString() {
+            final int id = (int) this.readVarLong();
+            if (id != 0) {
+                return this.strings.get(id - 1);
+            }
+            final byte[] utf8 = new byte[(int) this.readVarLong()];
+            this.buffer.get(utf8);
+            final String value = new String(utf8, StandardCharsets.UTF_8);
+            this.strings.add(value);
+            return value;
+        }
+
+        @Nullable
+        Object readValue() {
+            final byte tag = this.readByte();
+            switch (tag) {
+                case NULL_TAG:
+                    return null;
+                case TRUE_TAG:
+                    return Boolean.TRUE;
+                case FALSE_TAG:
+                    return Boolean.FALSE;
+                case INT_TAG:
+                    return (int) unZigZag(this.readVarLong());
+                case LONG_TAG:
+                    return unZigZag(this.readVarLong());
+                case DOUBLE_TAG:
+                    final long highBits = this.readInt() & 0xFFFFFFFFL;
+                    final long lowBits = this.readInt() & 0xFFFFFFFFL;
+                    return Double.longBitsToDouble((highBits << 32) | lowBits);
+                case STRING_TAG:
+                    return this.readString();
+                case DURATION_TAG:
+                    return Duration.ofNanos(unZigZag(this.readVarLong()));
+                case ARRAY_TAG:
+                    final String componentType = this.readString();
+                    final Object[] array = new Object[(int) this.readVarLong()];
+                    for (int idx = 0; idx < array.length; ++idx) {
+                        array[idx] = this.readValue();
+                    }
+                    return componentType.equals(String.class.getName())
+                        ? Arrays.copyOf(array, array.length, String[].class)
+                        : array;
+                case OPAQUE_TAG:
+                    return new Opaque(this.readString());
+                default:
+                    throw new IllegalStateException("Unknown value tag: " + tag);
+            }
+        }
+    }
+
+    /**
+     * Object that cannot be restored from the trace.
+     */
+    static final class Opaque {
+        private final String className;
+
+        Opaque(final String className) {
+            this.className = className;
+        }
+
+        String className() {
+            return this.className;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Opaque && this.className.equals(((Opaque) obj).className);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.className.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Opaque{" + this.className + "}";
+        }
+    }
+
+    private static long durationNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.TraceReplayer;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Trace replayer implementation reading records from the memory-mapped trace file. The file can be read while
+ * it is being recorded, the records completely written by that moment are replayed. Malformed records fail the
+ * replay with {@link IllegalStateException}.
+ *
+ * @see TraceFormat
+ */
+@ParametersAreNonnullByDefault
+public class TraceReplayerOf implements TraceReplayer {
+    private final Path file;
+
+    /**
+     * Ctor.
+     *
+     * @param file the trace file
+     * @throws NullPointerException if {@code file} is {@code null}
+     */
+    public TraceReplayerOf(final Path file) {
+        this.file = Objects.requireNonNull(file, "file arg is null");
+    }
+
+    @Override
+    public final long replayOn(final @Nullable UnsafeSelenideElement target,
+                               final boolean keepTiming) {
+        if (target == null) { throw ValidationErrors.error("target arg is null"); }
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final TraceFormat.Input in = new TraceFormat.Input(buffer);
+        if (in.readInt() != TraceFormat.MAGIC) {
+            throw new IllegalStateException("Not a trace file: " + this.file);
+        }
+        final byte version = in.readByte();
+        if (version != TraceFormat.VERSION) {
+            throw new IllegalStateException("Unsupported trace version: " + version);
+        }
+        final long replayStart = System.nanoTime();
+        long count = 0L;
+        while (in.remaining() >= TraceFormat.RECORD_HEADER_SIZE) {
+            final byte tag = in.readByte();
+            if (tag == TraceFormat.END_TAG) {
+                break;
+            }
+            if (tag != TraceFormat.RECORD_TAG && tag != TraceFormat.RESET_RECORD_TAG) {
+                throw new IllegalStateException("Unknown record tag: " + tag + " at position " + (in.position() - 1));
+            }
+            final int bodyLength = in.readInt();
+            final int bodyStart = in.position();
+            if (bodyLength <= 0 || bodyLength > in.remaining()) {
+                throw new IllegalStateException("Malformed record length: " + bodyLength + " at position " + bodyStart);
+            }
+            final int limit = in.limit();
+            in.limit(bodyStart + bodyLength);
+            final long startOffset;
+            final String methodName;
+            final Object[] methodArgs;
+            final boolean failed;
+            try {
+                in.selectStream((int) in.readVarLong(), tag == TraceFormat.RESET_RECORD_TAG);
+                startOffset = in.readVarLong();
+                in.readVarLong();
+                in.readString();
+                methodName = in.readString();
+                final int argsCount = (int) in.readVarLong();
+                methodArgs = argsCount == 0 ? null : new Object[argsCount - 1];
+                if (methodArgs != null) {
+                    for (int idx = 0; idx < methodArgs.length; ++idx) {
+                        methodArgs[idx] = in.readValue();
+                    }
+                }
+                failed = in.readByte() != TraceFormat.STATUS_OK;
+                if (failed) {
+                    in.readString();
+                } else {
+                    in.readValue();
+                }
+                if (in.hasRemaining()) {
+                    throw new IllegalStateException("Record body is longer than decoded");
+                }
+            } catch (final RuntimeException ex) {
+                throw new IllegalStateException("Malformed record at position " + bodyStart, ex);
+            } finally {
+                in.limit(limit);
+            }
+            if (keepTiming) {
+                long delay;
+                while ((delay = replayStart + startOffset - System.nanoTime()) > 0L) {
+                    LockSupport.parkNanos(delay);
+                }
+            }
+            if (failed) {
+                try {
+                    target.invoke(methodName, methodArgs);
+                } catch (final RuntimeException | AssertionError ignored) {
+                    /* the invocation failed on recording too */
+                }
+            } else {
+                target.invoke(methodName, methodArgs);
+            }
+            ++count;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Default implementation of {@link UnsafeSelenideElement} based on {@link SelenideElement}
+ * {@link Proxy} implementation.
+ *
+ * <p>See {@code com.codeborne.selenide.impl.SelenideElementProxy} (class has package-private access modifier).</p>
+ *
+ * <p>Overloaded methods are resolved by method name, arity and arguments types. Trailing arguments of variable
+ * arity methods are packed into an array. Methods of all interfaces of the proxy are available, e.g. methods
+ * of custom SelenideElement subinterfaces.</p>
+ *
+ * <p>{@code invoke1}, {@code invoke2} and {@code invoke3} methods pass the arguments in per-thread arrays reused
+ * by invocations of the same nesting depth, so the arguments array given to the invocation handler and to the
+ * {@link com.plugatar.selenidehacks.InvocationListener} is valid only during the invocation.</p>
+ */
+@ParametersAreNonnullByDefault
+public class UnsafeSelenideElementOf implements UnsafeSelenideElement {
+    private static final ThreadLocal<ArgsArrays> ARGS_ARRAYS = ThreadLocal.withInitial(ArgsArrays::new);
+    private final InvocationHandler invocationHandler;
+    private final SelenideElement proxy;
+    private final MethodIndex methodIndex;
+
+    /**
+     * Ctor.
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link Proxy}
+     * @throws NullPointerException     if {@code element} is {@code null}
+     * @throws IllegalArgumentException if {@code element} is not instantiated as a {@link Proxy}
+     */
+    public UnsafeSelenideElementOf(final SelenideElement element) {
+        this.proxy = Objects.requireNonNull(element, "element arg is null");
+        if (!Invocations.isProxy(element)) {
+            throw new IllegalArgumentException("element arg is not instantiated as a Proxy");
+        }
+        this.invocationHandler = Invocations.handlerOf(element);
+        this.methodIndex = MethodIndex.of(element.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final <ANY> ANY invoke(final String methodName,
+                                  final Object... methodArgs) {
+        final Method method = Invocations.methodOf(this.methodIndex, methodName, methodArgs);
+        return (ANY) Invocations.invoke(
+            this.invocationHandler, this.proxy, method, Invocations.adaptArgs(method, methodArgs)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation does not allocate if method is resolved, no listener is set and arguments are not
+     * packed for variable arity method.</p>
+     */
+    @Override
+    public final <ANY> ANY invoke0(final String methodName) {
+        return this.invoke(methodName, (Object[]) null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation does not allocate if method is resolved, no listener is set and arguments are not
+     * packed for variable arity method.</p>
+     */
+    @Override
+    public final <ANY> ANY invoke1(final String methodName,
+                                   final Object arg) {
+        final ArgsArrays argsArrays = ARGS_ARRAYS.get();
+        final Object[] args = argsArrays.acquire(1);
+        args[0] = arg;
+        try {
+            return this.invoke(methodName, args);
+        } finally {
+            argsArrays.release(args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation does not allocate if method is resolved, no listener is set and arguments are not
+     * packed for variable arity method.</p>
+     */
+    @Override
+    public final <ANY> ANY invoke2(final String methodName,
+                                   final Object arg1,
+                                   final Object arg2) {
+        final ArgsArrays argsArrays = ARGS_ARRAYS.get();
+        final Object[] args = argsArrays.acquire(2);
+        args[0] = arg1;
+        args[1] = arg2;
+        try {
+            return this.invoke(methodName, args);
+        } finally {
+            argsArrays.release(args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation does not allocate if method is resolved, no listener is set and arguments are not
+     * packed for variable arity method.</p>
+     */
+    @Override
+    public final <ANY> ANY invoke3(final String methodName,
+                                   final Object arg1,
+                                   final Object arg2,
+                                   final Object arg3) {
+        final ArgsArrays argsArrays = ARGS_ARRAYS.get();
+        final Object[] args = argsArrays.acquire(3);
+        args[0] = arg1;
+        args[1] = arg2;
+        args[2] = arg3;
+        try {
+            return this.invoke(methodName, args);
+        } finally {
+            argsArrays.release(args);
+        }
+    }
+
+    @Override
+    public final SelenideElement asSelenideElement() {
+        return this.proxy;
+    }
+
+    /**
+     * Per-thread arguments arrays by the invocation nesting depth and arity. Invocations nested deeper than
+     * {@value #MAX_DEPTH} get new arrays.
+     */
+    private static final class ArgsArrays {
+        private static final int MAX_DEPTH = 8;
+        private final Object[][][] arrays = new Object[MAX_DEPTH][4][];
+        private int depth = 0;
+
+        private Object[] acquire(final int arity) {
+            final int currentDepth = this.depth++;
+            if (currentDepth >= MAX_DEPTH) {
+                return new Object[arity];
+            }
+            Object[] args = this.arrays[currentDepth][arity];
+            if (args == null) {
+                args = new Object[arity];
+                this.arrays[currentDepth][arity] = args;
+            }
+            return args;
+        }
+
+        private void release(final Object[] args) {
+            this.depth--;
+            Arrays.fill(args, null);
+        }
+    }
+}
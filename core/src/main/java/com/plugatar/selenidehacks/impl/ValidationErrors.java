@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Factory of {@link SelenideElementInvocationException}s for the library own validation errors
+ * (null arguments, not a Proxy element, unknown method etc.).
+ *
+ * <p>The mode is read once from the {@value #MODE_PROPERTY} system property:</p>
+ * <ul>
+ *     <li>{@code full} (default) - new exception with stack trace for each error;</li>
+ *     <li>{@code stackless} - new exception without stack trace for each error;</li>
+ *     <li>{@code preallocated} - one shared exception without stack trace per error message.</li>
+ * </ul>
+ *
+ * <p>Failures of invoked methods and commands are never affected.</p>
+ *
+ * <p>The class is public for validations of the default methods of the library interfaces.</p>
+ */
+@ParametersAreNonnullByDefault
+public final class ValidationErrors {
+    static final String MODE_PROPERTY = "selenide.hacks.validationErrors";
+    private static final Mode MODE = Mode.of(System.getProperty(MODE_PROPERTY));
+
+    /**
+     * Utility class ctor.
+     */
+    private ValidationErrors() {
+    }
+
+    /**
+     * Returns validation error with given message according to the current mode.
+     *
+     * @param message the message
+     * @return validation error
+     */
+    public static SelenideElementInvocationException error(final String message) {
+        return MODE.error(message);
+    }
+
+    /**
+     * Validation errors mode.
+     */
+    enum Mode {
+        FULL {
+            @Override
+            SelenideElementInvocationException error(final String message) {
+                return new SelenideElementInvocationException(message);
+            }
+        },
+        STACKLESS {
+            @Override
+            SelenideElementInvocationException error(final String message) {
+                return new StacklessException(message);
+            }
+        },
+        PREALLOCATED {
+            private static final int MAX_PREALLOCATED_ERRORS = 256;
+            private final ConcurrentMap<String, SelenideElementInvocationException> errors =
+                new ConcurrentHashMap<>();
+
+            @Override
+            SelenideElementInvocationException error(final String message) {
+                final SelenideElementInvocationException error = this.errors.get(message);
+                if (error != null) {
+                    return error;
+                }
+                if (this.errors.size() >= MAX_PREALLOCATED_ERRORS) {
+                    return new StacklessException(message);
+                }
+                return this.errors.computeIfAbsent(message, StacklessException::new);
+            }
+        };
+
+        /**
+         * Returns validation error with given message.
+         *
+         * @param message the message
+         * @return validation error
+         */
+        abstract SelenideElementInvocationException error(String message);
+
+        /**
+         * Returns mode of given property value, {@link #FULL} for unknown values.
+         *
+         * @param value the property value
+         * @return mode
+         */
+        static Mode of(final @Nullable String value) {
+            if (value != null) {
+                for (final Mode mode : values()) {
+                    if (mode.name().equalsIgnoreCase(value.trim())) {
+                        return mode;
+                    }
+                }
+            }
+            return FULL;
+        }
+    }
+
+    /**
+     * Exception without stack trace and suppressed exceptions.
+     */
+    private static final class StacklessException extends SelenideElementInvocationException {
+        private static final long serialVersionUID = 1L;
+
+        private StacklessException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
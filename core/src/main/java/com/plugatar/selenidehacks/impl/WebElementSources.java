@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * Utility class providing access to the {@link WebElementSource} of {@link SelenideElement}.
+ */
+@ParametersAreNonnullByDefault
+final class WebElementSources {
+    private static final ClassValue<Field> SOURCE_FIELDS = new ClassValue<Field>() {
+        @Override
+        protected Field computeValue(final Class<?> handlerClass) {
+            for (Class<?> clazz = handlerClass; clazz != null; clazz = clazz.getSuperclass()) {
+                for (final Field field : clazz.getDeclaredFields()) {
+                    if (WebElementSource.class.isAssignableFrom(field.getType())) {
+                        try {
+                            field.setAccessible(true);
+                            return field;
+                        } catch (final RuntimeException ex) {
+                            return null;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    };
+
+    /**
+     * Utility class ctor.
+     */
+    private WebElementSources() {
+    }
+
+    /**
+     * Returns WebElementSource of given SelenideElement.
+     *
+     * <p>The source is read from the invocation handler field if possible, otherwise it is
+     * obtained by executing a command on the element.</p>
+     *
+     * @param element the {@link SelenideElement} instantiated as a {@link java.lang.reflect.Proxy}
+     * @return WebElementSource of given element
+     * @throws SelenideElementInvocationException if {@code element} is {@code null}
+     *                                            or if {@code element} is not instantiated as a Proxy
+     */
+    static WebElementSource of(final @Nullable SelenideElement element) {
+        final InvocationHandler handler = Invocations.handlerOf(element);
+        final Field field = SOURCE_FIELDS.get(handler.getClass());
+        if (field != null) {
+            try {
+                final WebElementSource source = (WebElementSource) field.get(handler);
+                if (source != null) {
+                    return source;
+                }
+            } catch (final IllegalAccessException ignored) {
+                /* use command */
+            }
+        }
+        return element.execute((proxy, locator, args) -> locator);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link OuterCommand}.
+ */
+final class OuterCommandTest {
+
+    @Test
+    void ofMethodThrowsExceptionForNullCommandParam() {
+        assertThatCode(() -> OuterCommand.of((Command<Object>) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void preparedMethodThrowsExceptionForNotFoundMethod() {
+        assertThatCode(() -> OuterCommand.prepared("notExistingMethod"))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnAllDefaultMethodThrowsExceptionForNullElementsParam() {
+        final OuterCommand<SelenideElement> outerCommand = element -> element;
+        assertThatCode(() -> outerCommand.executeOnAll(null))
+            .isInstanceOf(SelenideElementInvocationException.class)
+            .hasMessage("elements arg is null");
+    }
+
+    @Test
+    void executeOnAllDefaultMethodExecutesCommandOnEachElement() {
+        final List<WebElement> webElements = Arrays.asList(mock(WebElement.class), mock(WebElement.class));
+        final ElementsCollection elements = new ElementsCollection(mock(Driver.class), webElements);
+        final OuterCommand<SelenideElement> outerCommand = element -> element;
+
+        assertThat(outerCommand.executeOnAll(elements)).hasSize(2);
+    }
+
+    @Test
+    void executeOnAsyncDefaultMethodThrowsExceptionForNullElementParam() {
+        final OuterCommand<SelenideElement> outerCommand = element -> element;
+        assertThatCode(() -> outerCommand.executeOnAsync(null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnAsyncDefaultMethodExecutesCommandOnAnotherThread() throws Exception {
+        final WebElementSource source = mock(WebElementSource.class);
+        when(source.driver()).thenReturn(mock(Driver.class));
+        final SelenideElement element = ElementFinder.wrap(SelenideElement.class, source);
+        final OuterCommand<Thread> outerCommand = e -> Thread.currentThread();
+
+        assertThat(outerCommand.executeOnAsync(element).get(10, TimeUnit.SECONDS))
+            .isNotSameAs(Thread.currentThread());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for allocation-free invocation paths of {@link UnsafeSelenideElementOf} and {@link OuterCommandOf}.
+ */
+final class AllocationFreeInvocationTest {
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASUREMENT_ITERATIONS = 100_000;
+
+    @Test
+    void invoke0MethodDoesNotAllocate() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf(stubElement());
+        element.invoke0("getText");
+
+        assertThat(allocatedBytesPerCall(() -> element.invoke0("getText"))).isLessThan(1.0);
+    }
+
+    @Test
+    void invokeMethodDoesNotAllocateForOverloadedMethodAndPreparedArgs() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf(stubElement());
+        final Object[] args = {Boolean.TRUE};
+        element.invoke("scrollIntoView", args);
+
+        assertThat(allocatedBytesPerCall(() -> element.invoke("scrollIntoView", args))).isLessThan(1.0);
+    }
+
+    @Test
+    void invoke1MethodDoesNotAllocate() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf(stubElement());
+        element.invoke1("scrollIntoView", Boolean.TRUE);
+
+        assertThat(allocatedBytesPerCall(() -> element.invoke1("scrollIntoView", Boolean.TRUE))).isLessThan(1.0);
+    }
+
+    @Test
+    void invoke2MethodDoesNotAllocate() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf(stubElement());
+        element.invoke2("find", "div", 1);
+
+        assertThat(allocatedBytesPerCall(() -> element.invoke2("find", "div", 1))).isLessThan(1.0);
+    }
+
+    @Test
+    void invoke3MethodDoesNotAllocate() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf((SelenideElement) Proxy.newProxyInstance(
+            AllocationFreeInvocationTest.class.getClassLoader(),
+            new Class[]{ThreeArgsElement.class},
+            (proxy, method, args) -> "result"
+        ));
+        element.invoke3("threeArgs", "a", "b", "c");
+
+        assertThat(allocatedBytesPerCall(() -> element.invoke3("threeArgs", "a", "b", "c")))
+            .isLessThan(1.0);
+    }
+
+    @Test
+    void executeMethodWithTimeoutDoesNotAllocate() {
+        final UnsafeSelenideElement element = new UnsafeSelenideElementOf(stubElement());
+        final Command<Object> command = (proxy, locator, args) -> null;
+        final Duration timeout = Duration.ofSeconds(1);
+        element.execute(command, timeout);
+
+        assertThat(allocatedBytesPerCall(() -> element.execute(command, timeout))).isLessThan(1.0);
+    }
+
+    @Test
+    void nestedInvocationsDoNotShareArgsArrays() {
+        final Object[][] outerArgs = new Object[1][];
+        final UnsafeSelenideElement[] element = new UnsafeSelenideElement[1];
+        element[0] = new UnsafeSelenideElementOf((SelenideElement) Proxy.newProxyInstance(
+            AllocationFreeInvocationTest.class.getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("scrollIntoView")) {
+                    outerArgs[0] = args;
+                    element[0].invoke1("getAttribute", "inner");
+                    return args[0];
+                }
+                return null;
+            }
+        ));
+
+        final Object result = element[0].invoke1("scrollIntoView", Boolean.TRUE);
+
+        assertThat(result).isEqualTo(Boolean.TRUE);
+        assertThat(outerArgs[0]).containsOnlyNulls();
+    }
+
+    @Test
+    void outerCommandExecuteOnMethodDoesNotAllocate() {
+        final SelenideElement element = stubElement();
+        final OuterCommand<String> outerCommand = new OuterCommandOf<>("getText");
+        outerCommand.executeOn(element);
+
+        assertThat(allocatedBytesPerCall(() -> outerCommand.executeOn(element))).isLessThan(1.0);
+    }
+
+    private static SelenideElement stubElement() {
+        final Object result = "result";
+        return (SelenideElement) Proxy.newProxyInstance(
+            AllocationFreeInvocationTest.class.getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> result
+        );
+    }
+
+    private static double allocatedBytesPerCall(final Runnable call) {
+        final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int idx = 0; idx < WARMUP_ITERATIONS; ++idx) {
+            call.run();
+        }
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int idx = 0; idx < MEASUREMENT_ITERATIONS; ++idx) {
+            call.run();
+        }
+        final long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return (double) (after - before) / MEASUREMENT_ITERATIONS;
+    }
+
+    /**
+     * SelenideElement subinterface with the method of three parameters.
+     */
+    public interface ThreeArgsElement extends SelenideElement {
+
+        String threeArgs(String arg1, String arg2, String arg3);
+    }
+}
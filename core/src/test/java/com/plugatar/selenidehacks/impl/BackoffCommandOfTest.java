@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.Backoff;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link BackoffCommandOf}.
+ */
+final class BackoffCommandOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullParams() {
+        assertThatCode(() -> new BackoffCommandOf<>(null, mock(Command.class)))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BackoffCommandOf<>(backoff(Duration.ofSeconds(1)), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void executeMethodPollsUntilOriginCommandSucceeds() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final Command<String> command = (proxy, locator, args) -> {
+            if (executions.incrementAndGet() < 4) {
+                throw new AssertionError("not yet");
+            }
+            return (String) args[0];
+        };
+        final BackoffCommandOf<String> backoffCommand =
+            new BackoffCommandOf<>(backoff(Duration.ofSeconds(10)), command, "result");
+
+        final String result = backoffCommand.execute(mock(SelenideElement.class), mock(WebElementSource.class), null);
+
+        assertThat(result).isEqualTo("result");
+        assertThat(backoffCommand.polls()).isEqualTo(4L);
+    }
+
+    @Test
+    void executeMethodThrowsLastFailureWhenTimeoutIsReached() {
+        final AssertionError failure = new AssertionError("never");
+        final Command<Object> command = (proxy, locator, args) -> {
+            throw failure;
+        };
+        final BackoffCommandOf<Object> backoffCommand =
+            new BackoffCommandOf<>(backoff(Duration.ofMillis(50)), command);
+
+        assertThatCode(() -> backoffCommand.execute(mock(SelenideElement.class), mock(WebElementSource.class), null))
+            .isSameAs(failure);
+        assertThat(backoffCommand.polls()).isBetween(2L, 10L);
+    }
+
+    @Test
+    void executeMethodDoesNotRepeatOtherFailures() {
+        final IllegalStateException failure = new IllegalStateException();
+        final Command<Object> command = (proxy, locator, args) -> {
+            throw failure;
+        };
+        final BackoffCommandOf<Object> backoffCommand =
+            new BackoffCommandOf<>(backoff(Duration.ofSeconds(10)), command);
+
+        assertThatCode(() -> backoffCommand.execute(mock(SelenideElement.class), mock(WebElementSource.class), null))
+            .isSameAs(failure);
+        assertThat(backoffCommand.polls()).isEqualTo(1L);
+    }
+
+    @Test
+    void backoffDelaysGrowExponentiallyUpToMaxInterval() {
+        final Backoff backoff = Backoff.of(Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(1))
+            .withJitter(0.0);
+
+        assertThat(backoff.delayNanos(0)).isEqualTo(Duration.ofMillis(10).toNanos());
+        assertThat(backoff.delayNanos(1)).isEqualTo(Duration.ofMillis(20).toNanos());
+        assertThat(backoff.delayNanos(3)).isEqualTo(Duration.ofMillis(80).toNanos());
+        assertThat(backoff.delayNanos(10)).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(backoff.withJitter(0.5).delayNanos(0))
+            .isBetween(Duration.ofMillis(5).toNanos(), Duration.ofMillis(15).toNanos());
+        assertThatCode(() -> Backoff.of(Duration.ofMillis(10), Duration.ofMillis(1), Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void backoffOfMethodThrowsExceptionForZeroInitialInterval() {
+        assertThatCode(() -> Backoff.of(Duration.ZERO, Duration.ofMillis(10), Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Backoff.of(Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Backoff backoff(final Duration timeout) {
+        return Backoff.of(Duration.ofMillis(1), Duration.ofMillis(20), timeout);
+    }
+}
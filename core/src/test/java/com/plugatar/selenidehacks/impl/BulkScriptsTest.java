@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ElementsCollection;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link BulkScripts}.
+ */
+final class BulkScriptsTest {
+
+    @Test
+    void executeOnAllMethodThrowsExceptionForNullElementsParam() {
+        assertThatCode(() -> BulkScripts.executeOnAll(null, "getText", new Object[0]))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnAllMethodReturnsNullForMethodWithoutScript() {
+        final Driver driver = mock(Driver.class);
+        final ElementsCollection elements = new ElementsCollection(driver, Collections.singletonList(mock(WebElement.class)));
+
+        assertThat(BulkScripts.<Object>executeOnAll(elements, "click", new Object[0])).isNull();
+        assertThat(BulkScripts.<Object>executeOnAll(elements, "getAttribute", new Object[]{1})).isNull();
+        verify(driver, never()).executeJavaScript(anyString(), eq(Collections.emptyList()), isNull());
+    }
+
+    @Test
+    void executeOnAllMethodExecutesSingleScript() {
+        final Driver driver = mock(Driver.class);
+        final List<WebElement> webElements = Arrays.asList(mock(WebElement.class), mock(WebElement.class));
+        final ElementsCollection elements = new ElementsCollection(driver, webElements);
+        when(driver.executeJavaScript(contains("getAttribute"), eq(webElements), eq("href")))
+            .thenReturn(Arrays.asList("first", "second"));
+
+        final List<String> results = BulkScripts.executeOnAll(elements, "getAttribute", new Object[]{"href"});
+
+        assertThat(results).containsExactly("first", "second");
+        verify(driver, times(1)).executeJavaScript(contains("getAttribute"), eq(webElements), eq("href"));
+    }
+
+    @Test
+    void executeOnAllMethodReturnsEmptyListForEmptyCollection() {
+        final Driver driver = mock(Driver.class);
+        final ElementsCollection elements = new ElementsCollection(driver, Collections.emptyList());
+
+        assertThat(BulkScripts.<Object>executeOnAll(elements, "getText", null)).isEmpty();
+    }
+
+    @Test
+    void executeOnAllMethodReadsLivePropertiesAndVisibilityRules() {
+        final Driver driver = mock(Driver.class);
+        final List<WebElement> webElements = Collections.singletonList(mock(WebElement.class));
+        final ElementsCollection elements = new ElementsCollection(driver, webElements);
+        final ArgumentCaptor<String> scriptCaptor = ArgumentCaptor.forClass(String.class);
+
+        BulkScripts.executeOnAll(elements, "getAttribute", new Object[]{"value"});
+        BulkScripts.executeOnAll(elements, "isDisplayed", null);
+
+        verify(driver, times(2)).executeJavaScript(scriptCaptor.capture(), any());
+        assertThat(scriptCaptor.getAllValues().get(0))
+            .contains("results.push(attribute(e, arguments[1]))")
+            .contains("var p = e[n];");
+        assertThat(scriptCaptor.getAllValues().get(1))
+            .contains("results.push(displayed(e))")
+            .contains("s.display === 'none'")
+            .contains("v === 'hidden'");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link CachedLookupUnsafeSelenideElementOf}.
+ */
+final class CachedLookupUnsafeSelenideElementOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullElement() {
+        assertThatCode(() -> new CachedLookupUnsafeSelenideElementOf(null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void ctorThrowsExceptionForNotProxyElement() {
+        assertThatCode(() -> new CachedLookupUnsafeSelenideElementOf(mock(SelenideElement.class)))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void webElementSourcesReadsSourceOfSelenideProxy() {
+        final WebElementSource source = mock(WebElementSource.class);
+        final SelenideElement element = ElementFinder.wrap(SelenideElement.class, source);
+
+        assertThat(WebElementSources.of(element)).isSameAs(source);
+    }
+
+    @Test
+    void asSelenideElementMethodReturnsProxyOverCachedSource() {
+        final WebElementSource source = mock(WebElementSource.class);
+        final SelenideElement element = ElementFinder.wrap(SelenideElement.class, source);
+
+        final SelenideElement cached = new CachedLookupUnsafeSelenideElementOf(element).asSelenideElement();
+
+        assertThat(cached).isNotSameAs(element);
+        assertThat(WebElementSources.of(cached)).isInstanceOf(CachedWebElementSource.class);
+    }
+
+    @Test
+    void staleAwareSourceResolvesElementOnce() {
+        final WebElementSource origin = mock(WebElementSource.class);
+        final WebElement webElement = mock(WebElement.class);
+        when(origin.getWebElement()).thenReturn(webElement);
+        when(webElement.getText()).thenReturn("text");
+        final CachedWebElementSource source = new CachedWebElementSource(origin, true);
+
+        assertThat(source.getWebElement().getText()).isEqualTo("text");
+        assertThat(source.getWebElement().getText()).isEqualTo("text");
+        assertThat(((WrapsElement) source.getWebElement()).getWrappedElement()).isSameAs(webElement);
+        verify(origin, times(1)).getWebElement();
+    }
+
+    @Test
+    void staleAwareSourceResolvesElementAgainAfterStaleElement() {
+        final WebElementSource origin = mock(WebElementSource.class);
+        final WebElement staleElement = mock(WebElement.class);
+        final WebElement freshElement = mock(WebElement.class);
+        when(origin.getWebElement()).thenReturn(staleElement, freshElement);
+        final StaleElementReferenceException staleEx = new StaleElementReferenceException("stale");
+        when(staleElement.getText()).thenThrow(staleEx);
+        when(freshElement.getText()).thenReturn("text");
+        final CachedWebElementSource source = new CachedWebElementSource(origin, true);
+
+        assertThatCode(() -> source.getWebElement().getText()).isSameAs(staleEx);
+        assertThat(source.getWebElement().getText()).isEqualTo("text");
+        verify(origin, times(2)).getWebElement();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Append;
+import com.codeborne.selenide.commands.Clear;
+import com.codeborne.selenide.commands.Click;
+import com.codeborne.selenide.commands.SetValue;
+import com.codeborne.selenide.commands.ShouldHave;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link CommandPipelineOf}.
+ */
+final class CommandPipelineOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNonPositiveFlushThreshold() {
+        assertThatCode(() -> new CommandPipelineOf(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void enqueueMethodThrowsExceptionForNullArgs() {
+        final CommandPipelineOf pipeline = new CommandPipelineOf(2);
+        final SelenideElement element = new RecordingElement("a").proxy;
+
+        assertThatCode(() -> pipeline.enqueue(null, (proxy, locator, args) -> null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+        assertThatCode(() -> pipeline.enqueue(mock(SelenideElement.class), (proxy, locator, args) -> null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+        assertThatCode(() -> pipeline.enqueue(element, (Command<?>) null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.enqueue(element, (OuterCommand<?>) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void enqueueMethodDoesNotExecuteCommandsBelowFlushThreshold() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement element = new RecordingElement("a");
+        final CommandPipelineOf pipeline = new CommandPipelineOf(3);
+
+        pipeline.enqueue(element.proxy, command(log, "1")).enqueue(element.proxy, command(log, "2"));
+
+        assertThat(log).isEmpty();
+        assertThat(element.executeCalls).isZero();
+        assertThat(pipeline.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void enqueueMethodFlushesAllCommandsInQueueingOrderOnFlushThreshold() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement first = new RecordingElement("a");
+        final RecordingElement second = new RecordingElement("b");
+        final CommandPipelineOf pipeline = new CommandPipelineOf(3);
+
+        pipeline.enqueue(second.proxy, command(log, "1"))
+            .enqueue(first.proxy, command(log, "2"))
+            .enqueue(second.proxy, command(log, "3"));
+
+        assertThat(log).containsExactly("b1", "a2", "b3");
+        assertThat(pipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushMethodExecutesCommandsAndOuterCommandsInQueueingOrder() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement first = new RecordingElement("a");
+        final RecordingElement second = new RecordingElement("b");
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+
+        pipeline.enqueue(first.proxy, command(log, "1"))
+            .enqueue(first.proxy, command(log, "2"))
+            .enqueue(second.proxy, (OuterCommand<String>) element -> {
+                log.add(element.toString() + "outer");
+                return null;
+            })
+            .enqueue(first.proxy, command(log, "3"));
+        pipeline.flush();
+
+        assertThat(log).containsExactly("a1", "a2", "bouter", "a3");
+        assertThat(pipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushMethodFusesOnlyConsecutiveCommandsOfSameElement() {
+        final ProxyElements.Input first = ProxyElements.input();
+        final ProxyElements.Input second = ProxyElements.input();
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+
+        pipeline.enqueue(first.element, new CustomArgsCommandOf<>(new SetValue(), "x"))
+            .enqueue(first.element, new CustomArgsCommandOf<>(new Append(), "y"))
+            .enqueue(second.element, new CustomArgsCommandOf<>(new Append(), "z"))
+            .enqueue(first.element, new CustomArgsCommandOf<>(new Append(), "w"))
+            .enqueue(first.element, new CustomArgsCommandOf<>(new Append(), "v"));
+        pipeline.flush();
+
+        assertThat(ProxyElements.javaScriptCalls(first.driver)).isEqualTo(2);
+        assertThat(ProxyElements.javaScriptCalls(second.driver)).isZero();
+        assertThat(second.value.toString()).isEqualTo("z");
+    }
+
+    @Test
+    void flushMethodExecutesInterleavedFillOfSeveralElementsAsScriptPerRun() {
+        final ProxyElements.Input first = ProxyElements.input();
+        final ProxyElements.Input second = ProxyElements.input();
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+
+        pipeline.enqueue(first.element, new Clear())
+            .enqueue(first.element, new CustomArgsCommandOf<>(new SetValue(), "a"))
+            .enqueue(second.element, new Clear())
+            .enqueue(second.element, new CustomArgsCommandOf<>(new SetValue(), "b"))
+            .enqueue(first.element, new CustomArgsCommandOf<>(new Append(), "c"))
+            .enqueue(first.element, new CustomArgsCommandOf<>(new Append(), "d"))
+            .enqueue(second.element, new CustomArgsCommandOf<>(new Append(), "e"))
+            .enqueue(second.element, new CustomArgsCommandOf<>(new Append(), "f"));
+        pipeline.flush();
+
+        assertThat(ProxyElements.javaScriptCalls(first.driver)).isEqualTo(2);
+        assertThat(ProxyElements.javaScriptCalls(second.driver)).isEqualTo(2);
+        assertThat(first.lookups.get()).isEqualTo(2);
+        assertThat(second.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void executeOnMethodFlushesQueueAndReturnsCommandResult() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement first = new RecordingElement("a");
+        final RecordingElement second = new RecordingElement("b");
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+
+        pipeline.enqueue(first.proxy, command(log, "1")).enqueue(second.proxy, command(log, "2"));
+        final String result = pipeline.executeOn(first.proxy, command(log, "3"));
+
+        assertThat(result).isEqualTo("a3");
+        assertThat(log).containsExactly("a1", "b2", "a3");
+        assertThat(pipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    void executeOnMethodReturnsOuterCommandResult() {
+        final RecordingElement element = new RecordingElement("a");
+
+        final String result = new CommandPipelineOf(10)
+            .executeOn(element.proxy, (OuterCommand<String>) target -> target.toString() + "outer");
+
+        assertThat(result).isEqualTo("aouter");
+    }
+
+    @Test
+    void executeOnMethodExecutesSingleCommandAsIs() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement element = new RecordingElement("a");
+
+        final String result = new CommandPipelineOf(10).executeOn(element.proxy, command(log, "1"));
+
+        assertThat(result).isEqualTo("a1");
+        assertThat(element.lastCommand).isNotInstanceOf(FusedCommandOf.class);
+    }
+
+    @Test
+    void executeOnMethodDoesNotRepeatQueuedCommandsOnProxyRetry() {
+        final ProxyElements.Input input = ProxyElements.input();
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+
+        pipeline.enqueue(input.element, new Click());
+
+        assertThatCode(() -> pipeline.executeOn(input.element,
+            new CustomArgsCommandOf<>(new ShouldHave(), Condition.exactValue("y"))))
+            .isInstanceOf(AssertionError.class);
+        assertThat(input.clicks).hasValue(1);
+        assertThat(pipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushMethodDropsFailedRunAndKeepsNextCommands() {
+        final List<String> log = new ArrayList<>();
+        final RecordingElement first = new RecordingElement("a");
+        final RecordingElement second = new RecordingElement("b");
+        final CommandPipelineOf pipeline = new CommandPipelineOf(10);
+        final IllegalStateException failure = new IllegalStateException();
+
+        pipeline.enqueue(second.proxy, command(log, "1"))
+            .enqueue(first.proxy, (proxy, locator, args) -> {
+                throw failure;
+            })
+            .enqueue(second.proxy, command(log, "2"));
+
+        assertThatCode(pipeline::flush).isSameAs(failure);
+        assertThat(log).containsExactly("b1");
+        assertThat(pipeline.pendingCount()).isEqualTo(1);
+        pipeline.flush();
+        assertThat(log).containsExactly("b1", "b2");
+    }
+
+    private static Command<String> command(final List<String> log,
+                                           final String name) {
+        return (proxy, locator, args) -> {
+            final String entry = proxy.toString() + name;
+            log.add(entry);
+            return entry;
+        };
+    }
+
+    private static final class RecordingElement {
+        private final SelenideElement proxy;
+        private int executeCalls = 0;
+        private Object lastCommand;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private RecordingElement(final String name) {
+            final WebElementSource locator = mock(WebElementSource.class);
+            this.proxy = (SelenideElement) Proxy.newProxyInstance(
+                SelenideElement.class.getClassLoader(),
+                new Class<?>[]{SelenideElement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return name;
+                    }
+                    if (method.getName().equals("execute")) {
+                        this.executeCalls++;
+                        this.lastCommand = args[0];
+                        return ((Command) args[0]).execute((SelenideElement) proxy, locator, null);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            );
+        }
+    }
+}
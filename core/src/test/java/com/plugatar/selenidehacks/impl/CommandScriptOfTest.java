@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.CommandScript;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link CommandScriptOf}.
+ */
+final class CommandScriptOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullScriptParam() {
+        assertThatCode(() -> new CommandScriptOf(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorParsesEmptySteps() {
+        assertThat(new CommandScriptOf(" ;; ").steps()).isEmpty();
+        assertThat(new CommandScriptOf("click;").steps()).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "unknownMethod",
+        "setValue \"unterminated",
+        "setValue \"bad \\q escape\"",
+        "shouldBe unknownCondition",
+        "shouldHave unknownFactory(\"a\")",
+        "shouldHave text(1)",
+        "shouldHave text(\"a\"",
+        "shouldBe visible, 5h",
+        "shouldBe visible, 1.5s",
+        "shouldBe visible, 9223372036854775807m",
+        "shouldBe visible, -9223372036854775808m",
+        "; 1",
+        "append \"a\" \"b\"",
+        "append \"a\", \"b\"",
+        "append",
+        "click \"a\"",
+        "scrollIntoView 1",
+        "download \"a\""
+    })
+    void ctorThrowsExceptionForInvalidScript(final String script) {
+        assertThatCode(() -> new CommandScriptOf(script))
+            .isInstanceOf(SelenideElementInvocationException.class)
+            .hasMessageContaining("Script error at position");
+    }
+
+    @Test
+    void ctorReportsPositionOfNotApplicableStep() {
+        assertThatCode(() -> new CommandScriptOf("click; append \"a\", \"b\""))
+            .isInstanceOf(SelenideElementInvocationException.class)
+            .hasMessageContaining("Script error at position 7")
+            .hasMessageContaining("append(String)")
+            .hasMessageContaining("(String, String)");
+        assertThatCode(() -> new CommandScriptOf("append \"a\" \"b\""))
+            .isInstanceOf(SelenideElementInvocationException.class)
+            .hasMessageContaining("Script error at position 11: expected ',' or ';'");
+    }
+
+    @Test
+    void executeOnMethodWidensIntegerLiterals() {
+        final RecordingElement element = new RecordingElement();
+
+        new CommandScriptOf("download 5000").executeOn(element.proxy);
+
+        assertThat(element.methods).containsExactly("download");
+        assertThat(element.args.get(0)).containsExactly(5000L);
+    }
+
+    @Test
+    void executeOnMethodInvokesStepsInOrder() {
+        final RecordingElement element = new RecordingElement();
+
+        final List<Object> results = new CommandScriptOf("append \"foo\"; click; shouldHave text(\"bar\")")
+            .executeOn(element.proxy);
+
+        assertThat(results).hasSize(3);
+        assertThat(element.methods).containsExactly("append", "click", "shouldHave");
+        assertThat(element.args.get(0)).containsExactly("foo");
+        assertThat(element.args.get(1)).isEmpty();
+        final Condition[] conditions = (Condition[]) element.args.get(2)[0];
+        assertThat(conditions).hasSize(1);
+        assertThat(conditions[0].toString()).contains("text").contains("bar");
+    }
+
+    @Test
+    void executeOnMethodPassesParsedLiterals() {
+        final RecordingElement element = new RecordingElement();
+
+        new CommandScriptOf(
+            "setValue \"a\\\"b\\\\c\\n\"; shouldBe visible, 5s; shouldHave and(\"both\", text(\"a\"), value(\"b\"))"
+        ).executeOn(element.proxy);
+
+        assertThat(element.args.get(0)).containsExactly("a\"b\\c\n");
+        assertThat(element.args.get(1)).containsExactly(Condition.visible, Duration.ofSeconds(5));
+        final Condition[] conditions = (Condition[]) element.args.get(2)[0];
+        assertThat(conditions).hasSize(1);
+        assertThat(conditions[0].toString()).contains("both");
+    }
+
+    @Test
+    void ofMethodReturnsCachedScript() {
+        final String text = "scrollIntoView true; click";
+
+        final CommandScript script = CommandScript.of(text);
+
+        assertThat(CommandScript.of(text)).isSameAs(script);
+        assertThat(new CommandScriptOf(text)).isNotSameAs(script);
+        assertThat(script.text()).isEqualTo(text);
+        assertThat(script.steps()).hasSize(2);
+    }
+
+    @Test
+    void cachedMethodEvictsLeastRecentlyUsedScript() {
+        final String evicted = "click; scrollIntoView true";
+        final String used = "click; scrollIntoView false";
+
+        final CommandScriptOf evictedScript = CommandScriptOf.cached(evicted);
+        final CommandScriptOf usedScript = CommandScriptOf.cached(used);
+        for (int idx = 0; idx < CommandScriptOf.MAX_CACHED_SCRIPTS; ++idx) {
+            assertThat(CommandScriptOf.cached(used)).isSameAs(usedScript);
+            CommandScriptOf.cached("click; shouldBe visible, " + idx + "ms");
+        }
+
+        assertThat(CommandScriptOf.cached(used)).isSameAs(usedScript);
+        assertThat(CommandScriptOf.cached(evicted)).isNotSameAs(evictedScript);
+    }
+
+    private static final class RecordingElement {
+        private final List<String> methods = new ArrayList<>();
+        private final List<Object[]> args = new ArrayList<>();
+        private final SelenideElement proxy;
+
+        private RecordingElement() {
+            this.proxy = (SelenideElement) Proxy.newProxyInstance(
+                SelenideElement.class.getClassLoader(),
+                new Class<?>[]{SelenideElement.class},
+                (proxy, method, methodArgs) -> {
+                    this.methods.add(method.getName());
+                    this.args.add(methodArgs);
+                    return method.getReturnType() == SelenideElement.class ? proxy : null;
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.Deadline;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link DeadlineCommandOf}.
+ */
+final class DeadlineCommandOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullParams() {
+        assertThatCode(() -> new DeadlineCommandOf<>(null, mock(Command.class)))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DeadlineCommandOf<>(Deadline.after(Duration.ofSeconds(1)), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void executeMethodCapsDurationArgsByRemainingTime() throws Exception {
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final Command<Object> command = (proxy, locator, args) -> {
+            argsReference.set(args);
+            return "result";
+        };
+        final Duration shortTimeout = Duration.ofMillis(10);
+        final Object[] commandArgs = {"arg", Duration.ofSeconds(20), shortTimeout};
+
+        final Object result = new DeadlineCommandOf<>(Deadline.after(Duration.ofSeconds(5)), command, commandArgs)
+            .execute(mock(SelenideElement.class), mock(WebElementSource.class), null);
+
+        assertThat(result).isEqualTo("result");
+        assertThat(argsReference.get()).hasSize(3);
+        assertThat(argsReference.get()[0]).isEqualTo("arg");
+        assertThat((Duration) argsReference.get()[1]).isLessThanOrEqualTo(Duration.ofSeconds(5));
+        assertThat(argsReference.get()[2]).isSameAs(shortTimeout);
+        assertThat(commandArgs[1]).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void executeMethodForwardsArgsWithoutDurationAsIs() throws Exception {
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final Command<Object> command = (proxy, locator, args) -> {
+            argsReference.set(args);
+            return null;
+        };
+        final Object[] commandArgs = {"arg"};
+
+        new DeadlineCommandOf<>(Deadline.after(Duration.ofSeconds(5)), command, commandArgs)
+            .execute(mock(SelenideElement.class), mock(WebElementSource.class), null);
+
+        assertThat(argsReference.get()).isSameAs(commandArgs);
+    }
+
+    @Test
+    void executeMethodFailsFastForExceededDeadline() {
+        final AtomicInteger executions = new AtomicInteger();
+        final Command<Object> command = (proxy, locator, args) -> executions.incrementAndGet();
+
+        assertThatCode(() -> new DeadlineCommandOf<>(Deadline.after(Duration.ZERO), command)
+            .execute(mock(SelenideElement.class), mock(WebElementSource.class), null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    void executeMethodBoundsElementMethodsByRemainingTime() throws Exception {
+        final List<Method> methods = new ArrayList<>();
+        final List<Object[]> methodsArgs = new ArrayList<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> {
+                methods.add(method);
+                methodsArgs.add(args);
+                return proxy;
+            }
+        );
+        final Command<Object> innerCommand = (proxy, locator, args) -> null;
+        final Command<Object> command = (proxy, locator, args) -> proxy
+            .shouldHave(Condition.value("a"), Condition.value("b"))
+            .shouldBe(Condition.visible, Duration.ofMinutes(1))
+            .execute(innerCommand);
+
+        new DeadlineCommandOf<>(Deadline.after(Duration.ofSeconds(5)), command)
+            .execute(proxySelenideElement, mock(WebElementSource.class), null);
+
+        assertThat(methods).containsExactly(
+            SelenideElement.class.getMethod("shouldHave", Condition.class, Duration.class),
+            SelenideElement.class.getMethod("shouldHave", Condition.class, Duration.class),
+            SelenideElement.class.getMethod("shouldBe", Condition.class, Duration.class),
+            SelenideElement.class.getMethod("execute", Command.class, Duration.class)
+        );
+        assertThat(methodsArgs).allSatisfy(args ->
+            assertThat((Duration) args[1]).isLessThanOrEqualTo(Duration.ofSeconds(5)));
+        assertThat(methodsArgs.get(3)[0]).isSameAs(innerCommand);
+    }
+
+    @Test
+    void executeMethodKeepsConfiguredTimeoutForRemainingTimeLongerThanIt() throws Exception {
+        final List<Object[]> methodsArgs = new ArrayList<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> {
+                methodsArgs.add(args);
+                return proxy;
+            }
+        );
+        final Driver driver = ProxyElements.input().driver;
+        final WebElementSource locator = mock(WebElementSource.class);
+        when(locator.driver()).thenReturn(driver);
+        final Command<Object> command = (proxy, locator1, args) -> proxy
+            .shouldHave(Condition.value("a"), Condition.value("b"))
+            .execute((proxy2, locator2, args2) -> null);
+
+        new DeadlineCommandOf<>(Deadline.after(Duration.ofMinutes(10)), command)
+            .execute(proxySelenideElement, locator, null);
+
+        assertThat(methodsArgs).hasSize(3).allSatisfy(args ->
+            assertThat(args[1]).isEqualTo(Duration.ofMillis(ProxyElements.TIMEOUT_MS)));
+    }
+
+    @Test
+    void executeMethodBoundsSelenideWaitingOfElementByDeadline() {
+        final ProxyElements.Input input = ProxyElements.input();
+        final Command<Object> command = (proxy, locator, args) -> proxy.shouldHave(Condition.value("never"));
+        final DeadlineCommandOf<Object> deadlineCommand =
+            new DeadlineCommandOf<>(Deadline.after(Duration.ofMillis(50)), command);
+        final long start = System.nanoTime();
+
+        assertThatCode(() -> deadlineCommand.execute(input.element, mock(WebElementSource.class), null))
+            .isInstanceOf(Throwable.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+            .isLessThan(ProxyElements.TIMEOUT_MS);
+    }
+
+    @Test
+    void deadlineCapsTimeoutByRemainingTime() {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+
+        assertThat(deadline.isExceeded()).isFalse();
+        assertThat(deadline.cap(Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(1));
+        assertThat(deadline.cap(Duration.ofMinutes(1))).isLessThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(Deadline.after(Duration.ZERO).remaining()).isEqualTo(Duration.ZERO);
+        assertThatCode(() -> Deadline.after(Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.FanOutReport;
+import com.plugatar.selenidehacks.OuterCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link FanOutOf}.
+ */
+final class FanOutOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNonPositiveMaxConcurrentSessions() {
+        assertThatCode(() -> new FanOutOf(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void executeMethodReturnsResultsInTargetsOrderWithBoundedConcurrency() {
+        final List<Driver> drivers = Arrays.asList(mock(Driver.class), mock(Driver.class), mock(Driver.class));
+        final List<SelenideElement> targets = new ArrayList<>();
+        final Map<SelenideElement, Driver> driverByTarget = new IdentityHashMap<>();
+        final Map<SelenideElement, Integer> indexByTarget = new IdentityHashMap<>();
+        for (int idx = 0; idx < 9; ++idx) {
+            final Driver driver = drivers.get(idx % drivers.size());
+            final SelenideElement target = elementOf(driver);
+            targets.add(target);
+            driverByTarget.put(target, driver);
+            indexByTarget.put(target, idx);
+        }
+        final Map<Driver, AtomicInteger> runningBySession = new ConcurrentHashMap<>();
+        final AtomicInteger runningSessions = new AtomicInteger();
+        final AtomicInteger maxRunningSessions = new AtomicInteger();
+        final AtomicInteger maxRunningInSession = new AtomicInteger();
+        final OuterCommand<Integer> command = target -> {
+            final AtomicInteger running = runningBySession.computeIfAbsent(
+                driverByTarget.get(target), driver -> new AtomicInteger());
+            maxRunningInSession.accumulateAndGet(running.incrementAndGet(), Math::max);
+            maxRunningSessions.accumulateAndGet(runningSessions.incrementAndGet(), Math::max);
+            sleep(5L);
+            runningSessions.decrementAndGet();
+            running.decrementAndGet();
+            return indexByTarget.get(target);
+        };
+
+        final FanOutReport<Integer> report = new FanOutOf(2).execute(command, targets);
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.entries()).hasSize(9);
+        for (int idx = 0; idx < 9; ++idx) {
+            assertThat(report.entries().get(idx).target()).isSameAs(targets.get(idx));
+            assertThat(report.entries().get(idx).results()).containsExactly(idx);
+        }
+        assertThat(maxRunningInSession.get()).isEqualTo(1);
+        assertThat(maxRunningSessions.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void executeMethodCollectsFailuresAndSkipsRestCommandsOfFailedTarget() {
+        final SelenideElement failingTarget = elementOf(mock(Driver.class));
+        final SelenideElement target = elementOf(mock(Driver.class));
+        final AssertionError failure = new AssertionError("failure");
+        final OuterCommand<String> first = element -> {
+            if (element == failingTarget) {
+                throw failure;
+            }
+            return "first";
+        };
+        final OuterCommand<String> second = element -> "second";
+
+        final FanOutReport<String> report = new FanOutOf(4).execute(
+            Arrays.asList(first, second), Arrays.asList(failingTarget, target));
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.failedEntries()).hasSize(1);
+        assertThat(report.entries().get(0).failure()).isSameAs(failure);
+        assertThat(report.entries().get(0).results()).isEmpty();
+        assertThat(report.entries().get(1).results()).containsExactly("first", "second");
+    }
+
+    @Test
+    void executeMethodReturnsEmptyReportForNoTargets() {
+        final FanOutReport<Object> report = new FanOutOf(1).execute(element -> null, Collections.emptyList());
+
+        assertThat(report.entries()).isEmpty();
+        assertThat(report.isSuccessful()).isTrue();
+    }
+
+    private static SelenideElement elementOf(final Driver driver) {
+        final WebElementSource source = mock(WebElementSource.class);
+        when(source.driver()).thenReturn(driver);
+        return ElementFinder.wrap(SelenideElement.class, source);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Append;
+import com.codeborne.selenide.commands.Clear;
+import com.codeborne.selenide.commands.Click;
+import com.codeborne.selenide.commands.SetValue;
+import com.codeborne.selenide.commands.ShouldHave;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link FusedCommandOf}.
+ */
+final class FusedCommandOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullCommandsParam() {
+        assertThatCode(() -> new FusedCommandOf((Command<?>[]) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsExceptionForNullCommand() {
+        assertThatCode(() -> new FusedCommandOf(new Clear(), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void executeMethodFusesConsecutiveSupportedCommands() throws Exception {
+        final SelenideElement proxy = mock(SelenideElement.class);
+        final WebElementSource locator = mock(WebElementSource.class);
+        final Driver driver = mock(Driver.class);
+        final WebElement webElement = mock(WebElement.class);
+        when(locator.driver()).thenReturn(driver);
+        when(locator.getWebElement()).thenReturn(webElement);
+        final Command<String> ordinaryCommand = (commandProxy, commandLocator, args) -> "ordinary";
+
+        final List<Object> results = new FusedCommandOf(
+            new CustomArgsCommandOf<>(new SetValue(), "abc"),
+            new CustomArgsCommandOf<>(new Append(), "def"),
+            ordinaryCommand,
+            new Clear()
+        ).execute(proxy, locator, null);
+
+        assertThat(results).containsExactly(proxy, proxy, "ordinary", proxy);
+        final ArgumentCaptor<String> scriptCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<Object> argsCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(driver, times(2)).executeJavaScript(scriptCaptor.capture(), argsCaptor.capture());
+        assertThat(scriptCaptor.getAllValues().get(0))
+            .contains("arguments[2]")
+            .contains("arguments[3]");
+        final List<Object> scriptArgs = argsCaptor.getAllValues();
+        assertThat(scriptArgs).hasSize(6);
+        assertThat(scriptArgs.get(0)).isSameAs(webElement);
+        assertThat(scriptArgs.subList(2, 5)).containsExactly("abc", "def", webElement);
+        assertThat(scriptArgs.get(1)).isInstanceOf(String.class).isNotEqualTo(scriptArgs.get(5));
+        verify(locator, times(1)).getWebElement();
+    }
+
+    @Test
+    void executeMethodDoesNotFuseUnsupportedArgs() throws Exception {
+        final WebElementSource locator = mock(WebElementSource.class);
+        final Driver driver = mock(Driver.class);
+        when(locator.driver()).thenReturn(driver);
+        final Command<Object> appendCommand = mock(Command.class);
+
+        new FusedCommandOf(new CustomArgsCommandOf<>(appendCommand, "abc"))
+            .execute(mock(SelenideElement.class), locator, null);
+
+        verify(appendCommand).execute(any(), any(), any());
+        verify(driver, times(0)).executeJavaScript(anyString(), any());
+    }
+
+    @Test
+    void executeOnMethodDoesNotRepeatStepsBeforeFailedStepOnProxy() {
+        final ProxyElements.Input input = ProxyElements.input();
+        final FusedCommandOf command = new FusedCommandOf(
+            new Click(),
+            new CustomArgsCommandOf<>(new ShouldHave(), Condition.exactValue("y"))
+        );
+
+        assertThatCode(() -> command.executeOn(input.element))
+            .isInstanceOf(AssertionError.class);
+        assertThat(input.clicks).hasValue(1);
+    }
+
+    @Test
+    void executeMethodDoesNotRepeatStepsBeforeFailedStepOnProxy() {
+        final ProxyElements.Input input = ProxyElements.input();
+
+        assertThatCode(() -> input.element.execute(new FusedCommandOf(
+            new Click(),
+            new CustomArgsCommandOf<>(new ShouldHave(), Condition.exactValue("y"))
+        ))).isInstanceOf(AssertionError.class);
+        assertThat(input.clicks).hasValue(1);
+    }
+}
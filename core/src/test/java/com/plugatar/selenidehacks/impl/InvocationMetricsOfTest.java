@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.InvocationListeners;
+import com.plugatar.selenidehacks.InvocationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link InvocationMetricsOf}.
+ */
+final class InvocationMetricsOfTest {
+
+    @AfterEach
+    void removeListener() {
+        InvocationListeners.set(null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 31L, 32L, 33L, 1000L, 123_456_789L, Long.MAX_VALUE})
+    void histogramBucketContainsValue(final long value) {
+        final int index = LatencyHistogram.indexOf(value);
+
+        assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+        assertThat(index == 0 ? -1L : LatencyHistogram.highestValueOf(index - 1)).isLessThan(value);
+    }
+
+    @Test
+    void histogramReturnsPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 1000L; ++value) {
+            histogram.record(value * 1000L);
+        }
+
+        assertThat(histogram.totalCount()).isEqualTo(1000L);
+        assertThat(histogram.valueAtPercentile(50.0)).isBetween(500_000L, 500_000L + 500_000L / 16);
+        assertThat(histogram.valueAtPercentile(99.0)).isBetween(990_000L, 990_000L + 990_000L / 16);
+        assertThat(histogram.valueAtPercentile(100.0)).isBetween(1_000_000L, 1_000_000L + 1_000_000L / 16);
+    }
+
+    @Test
+    void metricsAreExportedAsJsonAndCsv() {
+        final InvocationMetrics metrics = new InvocationMetricsOf();
+        metrics.invoked("getText", 100L, null);
+        metrics.invoked("getText", 300L, new RuntimeException());
+        metrics.invoked("com.example.Cmd", 10L, null);
+
+        assertThat(metrics.toJson())
+            .contains("\"com.example.Cmd\": {\"count\": 1, \"failures\": 0, \"totalNanos\": 10, \"maxNanos\": 10")
+            .contains("\"getText\": {\"count\": 2, \"failures\": 1, \"totalNanos\": 400, \"maxNanos\": 300");
+        assertThat(metrics.toCsv()).startsWith("name,count,failures,total_ns,max_ns,p50_ns,p90_ns,p99_ns,p999_ns\n")
+            .contains("\ngetText,2,1,400,300,");
+    }
+
+    @Test
+    void listenerIsNotifiedWithMethodNameAndCommandClassName() {
+        final InvocationMetrics metrics = new InvocationMetricsOf();
+        InvocationListeners.set(metrics);
+        final SelenideElement element = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getTagName")) {
+                    throw new IllegalStateException();
+                }
+                return null;
+            }
+        );
+        final Command<Object> command = new StubCommand();
+
+        new UnsafeSelenideElementOf(element).invoke("getText");
+        new UnsafeSelenideElementOf(element).invoke("execute", new CustomArgsCommandOf<>(command, "arg"));
+        new PreparedOuterCommandOf<>(command).executeOn(element);
+        assertThatCode(() -> new UnsafeSelenideElementOf(element).invoke("getTagName"))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(metrics.toCsv())
+            .contains("\ngetText,1,0,")
+            .contains("\n" + StubCommand.class.getName() + ",2,0,")
+            .contains("\ngetTagName,1,1,");
+    }
+
+    private static final class StubCommand implements Command<Object> {
+
+        @Override
+        public Object execute(final SelenideElement proxy,
+                              final WebElementSource locator,
+                              final Object[] args) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MethodIndex}.
+ */
+final class MethodIndexTest {
+
+    @SuppressWarnings("unused")
+    private interface Overloaded {
+
+        void single(String arg);
+
+        void append(String text);
+
+        void append(String text, Duration timeout);
+
+        void should(CharSequence... conditions);
+
+        void should(CharSequence condition, Duration timeout);
+
+        void scroll(boolean alignToTop);
+
+        void scroll(String options);
+
+        void value(Object value);
+
+        void value(String value);
+    }
+
+    private interface CustomElement extends SelenideElement {
+
+        String customText();
+    }
+
+    public static final class Arg {
+    }
+
+    private static final MethodIndex INDEX = new MethodIndex(Overloaded.class.getMethods());
+
+    private static Stream<Arguments> overloadsArgs() throws NoSuchMethodException {
+        return Stream.of(
+            Arguments.of("single", new Object[]{"abc"}, method("single", String.class)),
+            Arguments.of("append", new Object[]{"abc"}, method("append", String.class)),
+            Arguments.of("append", new Object[]{"abc", Duration.ZERO}, method("append", String.class, Duration.class)),
+            Arguments.of("should", new Object[]{"abc"}, method("should", CharSequence[].class)),
+            Arguments.of("should", new Object[]{"abc", "def"}, method("should", CharSequence[].class)),
+            Arguments.of("should", new Object[]{new CharSequence[]{"abc"}}, method("should", CharSequence[].class)),
+            Arguments.of("should", new Object[]{"abc", Duration.ZERO}, method("should", CharSequence.class, Duration.class)),
+            Arguments.of("scroll", new Object[]{true}, method("scroll", boolean.class)),
+            Arguments.of("scroll", new Object[]{"{block: 'end'}"}, method("scroll", String.class)),
+            Arguments.of("value", new Object[]{"abc"}, method("value", String.class)),
+            Arguments.of("value", new Object[]{123}, method("value", Object.class))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("overloadsArgs")
+    void resolveMethodReturnsMostSpecificOverload(final String methodName,
+                                                  final Object[] methodArgs,
+                                                  final Method expectedMethod) {
+        assertThat(INDEX.resolve(methodName, methodArgs)).isEqualTo(expectedMethod);
+        assertThat(INDEX.resolve(methodName, methodArgs))
+            .as("cached resolution")
+            .isEqualTo(expectedMethod);
+    }
+
+    @Test
+    void resolveMethodReturnsNullForUnknownMethodName() {
+        assertThat(INDEX.resolve("unknown", new Object[0])).isNull();
+    }
+
+    @Test
+    void resolveMethodReturnsMethodWithSameNameForNotApplicableArgs() {
+        assertThat(INDEX.resolve("scroll", new Object[]{1, 2, 3}))
+            .extracting(Method::getName)
+            .isEqualTo("scroll");
+    }
+
+    @Test
+    void shortcutsReturnOverloadOnlyForApplicableArgs() throws NoSuchMethodException {
+        final MethodIndex index = new MethodIndex(Overloaded.class.getMethods());
+
+        assertThat(index.resolve("single", new Object[]{"abc"})).isEqualTo(method("single", String.class));
+        assertThat(index.resolve("append", new Object[]{"abc", Duration.ZERO}))
+            .isEqualTo(method("append", String.class, Duration.class));
+        assertThat(index.cachedShapesCount("single")).isZero();
+        assertThat(index.cachedShapesCount("append")).isZero();
+        assertThat(index.resolve("single", new Object[]{1})).isEqualTo(method("single", String.class));
+        assertThat(index.resolve("single", new Object[]{"abc", "def"})).isEqualTo(method("single", String.class));
+        assertThat(index.resolve("append", new Object[]{"abc", 1})).isNotNull();
+        assertThat(index.cachedShapesCount("single")).isEqualTo(2);
+        assertThat(index.cachedShapesCount("append")).isEqualTo(1);
+    }
+
+    @Test
+    void shapesAreLookedUpByArgsClasses() throws NoSuchMethodException {
+        final MethodIndex index = new MethodIndex(Overloaded.class.getMethods());
+        final Object[][] argsArrays = {{"abc"}, {1}, {1L}, {new Arg()}, {null}};
+
+        for (int round = 0; round < 2; ++round) {
+            assertThat(index.resolve("value", argsArrays[0])).isEqualTo(method("value", String.class));
+            assertThat(index.resolve("value", argsArrays[1])).isEqualTo(method("value", Object.class));
+            assertThat(index.resolve("value", argsArrays[2])).isEqualTo(method("value", Object.class));
+            assertThat(index.resolve("value", argsArrays[3])).isEqualTo(method("value", Object.class));
+            assertThat(index.resolve("value", argsArrays[4])).isEqualTo(method("value", String.class));
+        }
+        assertThat(index.cachedShapesCount("value")).isEqualTo(argsArrays.length);
+    }
+
+    @Test
+    void shapesOfArgsClassesInvisibleToOwnerLoaderAreNotCached() throws Exception {
+        final URL classesLocation = MethodIndexTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader isolatedLoader = new URLClassLoader(new URL[]{classesLocation}, null)) {
+            final Object invisibleArg = isolatedLoader.loadClass(Arg.class.getName()).getConstructor().newInstance();
+            final MethodIndex index = new MethodIndex(Overloaded.class.getMethods());
+
+            assertThat(index.resolve("value", new Object[]{invisibleArg})).isEqualTo(method("value", Object.class));
+            assertThat(index.cachedShapesCount("value")).isZero();
+            assertThat(index.resolve("value", new Object[]{new Arg()})).isEqualTo(method("value", Object.class));
+            assertThat(index.cachedShapesCount("value")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void proxyClassIndexContainsMethodsOfAllInterfaces() throws NoSuchMethodException {
+        final CustomElement element = (CustomElement) Proxy.newProxyInstance(
+            MethodIndexTest.class.getClassLoader(),
+            new Class[]{CustomElement.class},
+            (proxy, method, args) -> method.getName()
+        );
+        final MethodIndex index = MethodIndex.of(element.getClass());
+
+        assertThat(MethodIndex.of(element.getClass())).isSameAs(index);
+        assertThat(index.resolve("customText", null)).isEqualTo(CustomElement.class.getMethod("customText"));
+        assertThat(index.resolve("getText", null)).isNotNull();
+        assertThat(UnsafeSelenideElement.of(element).<String>invoke0("customText")).isEqualTo("customText");
+        assertThat(OuterCommand.of("customText").executeOn(element)).isEqualTo("customText");
+    }
+
+    @Test
+    void selenideElementProxyClassIndexIsSharedIndex() {
+        final SelenideElement element = (SelenideElement) Proxy.newProxyInstance(
+            MethodIndexTest.class.getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> null
+        );
+
+        assertThat(MethodIndex.of(element.getClass())).isSameAs(MethodIndex.selenideElementIndex());
+    }
+
+    private static Method method(final String name,
+                                 final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Overloaded.class.getMethod(name, parameterTypes);
+    }
+}
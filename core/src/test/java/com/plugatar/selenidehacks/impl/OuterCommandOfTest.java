@@ -18,6 +18,7 @@
 package com.plugatar.selenidehacks.impl;
 
 import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.plugatar.selenidehacks.OuterCommand;
 import com.plugatar.selenidehacks.SelenideElementInvocationException;
@@ -27,10 +28,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.mock;
 
@@ -87,6 +91,28 @@ final class OuterCommandOfTest {
         );
     }
 
+    @Test
+    void executeOnMethodPacksVariableArityArgs() throws NoSuchMethodException {
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                methodReference.set(method);
+                argsReference.set(proxyArgs);
+                return null;
+            }
+        );
+
+        new OuterCommandOf<>("should", Condition.visible, Condition.enabled).executeOn(proxySelenideElement);
+
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition[].class));
+        assertThat(argsReference.get())
+            .containsExactly((Object) new Condition[]{Condition.visible, Condition.enabled});
+    }
+
     @ParameterizedTest
     @MethodSource("methodsArgs")
     void executeOnMethodUseCorrectObjectsForMethodNameCtor(final Object[] args,
@@ -176,4 +202,43 @@ final class OuterCommandOfTest {
             .isSameAs(result);
         referencesAssertions.assertAll();
     }
+
+    @Test
+    void executeOnMethodForwardsAllRestArgsForCommandCtor() {
+        final Command<Object> command = (proxy, locator, commandArgs) -> null;
+        final Duration timeout = Duration.ofSeconds(1);
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                argsReference.set(proxyArgs);
+                return null;
+            }
+        );
+
+        new OuterCommandOf<>(command, timeout).executeOn(proxySelenideElement);
+
+        assertThat(argsReference.get()).containsExactly(command, timeout);
+    }
+
+    @Test
+    void executeOnMethodUsesHandlerOfEachElementForCachedHandlersCollisions() {
+        final OuterCommand<Object> outerCommand = new OuterCommandOf<>("getText");
+        final SelenideElement[] elements = new SelenideElement[1000];
+        for (int idx = 0; idx < elements.length; ++idx) {
+            final Integer result = idx;
+            elements[idx] = (SelenideElement) Proxy.newProxyInstance(
+                this.getClass().getClassLoader(),
+                new Class[]{SelenideElement.class},
+                (proxy, method, args) -> result
+            );
+        }
+
+        for (int round = 0; round < 2; ++round) {
+            for (int idx = 0; idx < elements.length; ++idx) {
+                assertThat(outerCommand.executeOn(elements[idx])).isEqualTo(idx);
+            }
+        }
+    }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PreparedOuterCommandOf}.
+ */
+final class PreparedOuterCommandOfTest {
+
+    @Test
+    void commandCtorThrowsExceptionForNullCommandParam() {
+        assertThatCode(() -> new PreparedOuterCommandOf<>((Command<?>) null, new Object[0]))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodCtorThrowsExceptionForNullMethodNameParam() {
+        assertThatCode(() -> new PreparedOuterCommandOf<>((String) null, new Object[0]))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodCtorThrowsExceptionForNotFoundMethod() {
+        assertThatCode(() -> new PreparedOuterCommandOf<>("notExistingMethod"))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnMethodThrowsExceptionForNullElementParam() {
+        final OuterCommand<Object> outerCommand = new PreparedOuterCommandOf<>("toString");
+        assertThatCode(() -> outerCommand.executeOn((SelenideElement) null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnMethodThrowsExceptionForNotProxyElementParam() {
+        final OuterCommand<Object> outerCommand = new PreparedOuterCommandOf<>("toString");
+        assertThatCode(() -> outerCommand.executeOn(mock(SelenideElement.class)))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void executeOnMethodPacksVariableArityArgs() throws NoSuchMethodException {
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = recordingProxy(methodReference, argsReference, "result");
+
+        final Object result = new PreparedOuterCommandOf<>("should", Condition.visible, Condition.enabled)
+            .executeOn(proxySelenideElement);
+        final SoftAssertions assertions = new SoftAssertions();
+        assertions
+            .assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition[].class));
+        assertions
+            .assertThat(argsReference.get())
+            .containsExactly((Object) new Condition[]{Condition.visible, Condition.enabled});
+        assertions
+            .assertThat(result)
+            .isEqualTo("result");
+        assertions.assertAll();
+    }
+
+    @Test
+    void executeOnMethodUseAllRestArgsForCommandCtor() throws NoSuchMethodException {
+        final Command<Object> command = (proxy, locator, commandArgs) -> new Object();
+        final Duration timeout = Duration.ofSeconds(1);
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = recordingProxy(methodReference, argsReference, null);
+
+        new PreparedOuterCommandOf<>(command, timeout).executeOn(proxySelenideElement);
+        final SoftAssertions assertions = new SoftAssertions();
+        assertions
+            .assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("execute", Command.class, Duration.class));
+        assertions
+            .assertThat(argsReference.get())
+            .containsExactly(command, timeout);
+        assertions.assertAll();
+    }
+
+    @Test
+    void executeOnMethodResolvesMethodByProxyClass() throws NoSuchMethodException {
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final SelenideElement customElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{CustomElement.class},
+            (proxy, method, proxyArgs) -> {
+                methodReference.set(method);
+                return null;
+            }
+        );
+        final SelenideElement selenideElement = recordingProxy(methodReference, new AtomicReference<>(), null);
+        final OuterCommand<Object> outerCommand = new PreparedOuterCommandOf<>("setValue", "text");
+
+        outerCommand.executeOn(customElement);
+        assertThat(methodReference.get().getDeclaringClass())
+            .isSameAs(CustomElement.class);
+        outerCommand.executeOn(selenideElement);
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("setValue", String.class));
+    }
+
+    @Test
+    void executeOnMethodKeepsResolutionForEachProxyClass() {
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement customElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{CustomElement.class},
+            (proxy, method, proxyArgs) -> {
+                methodReference.set(method);
+                argsReference.set(proxyArgs);
+                return null;
+            }
+        );
+        final SelenideElement selenideElement = recordingProxy(methodReference, argsReference, null);
+        final OuterCommand<Object> outerCommand =
+            new PreparedOuterCommandOf<>("should", Condition.visible, Condition.enabled);
+
+        outerCommand.executeOn(customElement);
+        final Method customMethod = methodReference.get();
+        final Object customConditions = argsReference.get()[0];
+        outerCommand.executeOn(selenideElement);
+        final Method selenideMethod = methodReference.get();
+        final Object selenideConditions = argsReference.get()[0];
+        outerCommand.executeOn(customElement);
+        final SoftAssertions assertions = new SoftAssertions();
+        assertions
+            .assertThat(methodReference.get())
+            .isSameAs(customMethod);
+        assertions
+            .assertThat(argsReference.get()[0])
+            .isSameAs(customConditions);
+        outerCommand.executeOn(selenideElement);
+        assertions
+            .assertThat(methodReference.get())
+            .isSameAs(selenideMethod);
+        assertions
+            .assertThat(argsReference.get()[0])
+            .isSameAs(selenideConditions);
+        assertions.assertAll();
+    }
+
+    @Test
+    void executeOnMethodThrowsMethodException() {
+        final Throwable methodException = new Throwable();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                throw methodException;
+            }
+        );
+
+        final OuterCommand<Object> outerCommand = new PreparedOuterCommandOf<>("getText");
+        assertThatCode(() -> outerCommand.executeOn(proxySelenideElement))
+            .isSameAs(methodException);
+    }
+
+    private static SelenideElement recordingProxy(final AtomicReference<Method> methodReference,
+                                                  final AtomicReference<Object[]> argsReference,
+                                                  final Object result) {
+        return (SelenideElement) Proxy.newProxyInstance(
+            PreparedOuterCommandOfTest.class.getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                methodReference.set(method);
+                argsReference.set(proxyArgs);
+                return result;
+            }
+        );
+    }
+
+    /**
+     * SelenideElement subinterface with the covariant method.
+     */
+    public interface CustomElement extends SelenideElement {
+
+        @Override
+        CustomElement setValue(String text);
+    }
+}
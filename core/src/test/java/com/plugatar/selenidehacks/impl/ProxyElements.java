@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * Real Selenide {@link SelenideElement} proxies of stub inputs for tests of the proxy retry behavior.
+ */
+final class ProxyElements {
+    static final long TIMEOUT_MS = 300L;
+    static final long POLLING_INTERVAL_MS = 10L;
+
+    /**
+     * Utility class ctor.
+     */
+    private ProxyElements() {
+    }
+
+    /**
+     * Returns new stub input with the Selenide proxy, timeout {@value #TIMEOUT_MS} ms.
+     *
+     * @return stub input
+     */
+    static Input input() {
+        return new Input();
+    }
+
+    /**
+     * Returns the number of {@code executeJavaScript} calls of given mock driver.
+     *
+     * @param driver the mock driver
+     * @return the number of calls
+     */
+    static long javaScriptCalls(final Driver driver) {
+        return mockingDetails(driver).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("executeJavaScript"))
+            .count();
+    }
+
+    /**
+     * Stub input element: value, clicks counter, lookups counter and queued lookup failures.
+     */
+    static final class Input {
+        final StringBuilder value = new StringBuilder();
+        final AtomicInteger clicks = new AtomicInteger();
+        final AtomicInteger lookups = new AtomicInteger();
+        final Deque<RuntimeException> lookupFailures = new ArrayDeque<>();
+        final Driver driver = mock(Driver.class);
+        final WebElement webElement;
+        final SelenideElement element;
+
+        private Input() {
+            this.webElement = (WebElement) Proxy.newProxyInstance(
+                ProxyElements.class.getClassLoader(),
+                new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> this.webElementCall(method.getName(), args)
+            );
+            final Driver driver = this.driver;
+            when(driver.config()).thenReturn(new SelenideConfig()
+                .timeout(TIMEOUT_MS)
+                .pollingInterval(POLLING_INTERVAL_MS)
+                .screenshots(false)
+                .savePageSource(false));
+            when(driver.browser()).thenReturn(new Browser("chrome", true));
+            this.element = ElementFinder.wrap(SelenideElement.class, new WebElementSource() {
+                @Override
+                public Driver driver() {
+                    return driver;
+                }
+
+                @Override
+                public WebElement getWebElement() {
+                    Input.this.lookups.incrementAndGet();
+                    final RuntimeException failure = Input.this.lookupFailures.poll();
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return Input.this.webElement;
+                }
+
+                @Override
+                public String getSearchCriteria() {
+                    return "stub input";
+                }
+            });
+        }
+
+        private Object webElementCall(final String methodName,
+                                      final Object[] args) {
+            switch (methodName) {
+                case "getTagName":
+                    return "input";
+                case "isDisplayed":
+                case "isEnabled":
+                    return true;
+                case "isSelected":
+                    return false;
+                case "getAttribute":
+                case "getDomProperty":
+                    return "value".equals(args[0]) ? this.value.toString() : null;
+                case "getText":
+                    return "";
+                case "sendKeys":
+                    for (final CharSequence keys : (CharSequence[]) args[0]) {
+                        this.value.append(keys);
+                    }
+                    return null;
+                case "clear":
+                    this.value.setLength(0);
+                    return null;
+                case "click":
+                    this.clicks.incrementAndGet();
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(this);
+                case "equals":
+                    return args[0] == this.webElement;
+                case "toString":
+                    return "<input value=\"" + this.value + "\">";
+                default:
+                    throw new UnsupportedOperationException(methodName);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.CachingUnsafeSelenideElement;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReadCachingUnsafeSelenideElementOf}.
+ */
+final class ReadCachingUnsafeSelenideElementOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullParams() {
+        assertThatCode(() -> new ReadCachingUnsafeSelenideElementOf(null, Duration.ofSeconds(1)))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ReadCachingUnsafeSelenideElementOf(mock(UnsafeSelenideElement.class), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void invokeMethodCachesReadMethodsResultsByArgs() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        when(origin.invoke("getText")).thenReturn("text");
+        when(origin.invoke("getAttribute", "href")).thenReturn("href value");
+        when(origin.invoke("getAttribute", "id")).thenReturn(null);
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1));
+
+        for (int idx = 0; idx < 3; ++idx) {
+            assertThat((String) element.invoke("getText")).isEqualTo("text");
+            assertThat((String) element.invoke("getAttribute", "href")).isEqualTo("href value");
+            assertThat((String) element.invoke("getAttribute", "id")).isNull();
+        }
+
+        verify(origin, times(1)).invoke("getText");
+        verify(origin, times(1)).invoke("getAttribute", "href");
+        verify(origin, times(1)).invoke("getAttribute", "id");
+    }
+
+    @Test
+    void invokeMethodDropsCacheOnMutatingMethod() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        when(origin.invoke("getValue")).thenReturn("old", "new");
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1));
+
+        assertThat((String) element.invoke("getValue")).isEqualTo("old");
+        element.invoke("setValue", "new");
+        assertThat((String) element.invoke("getValue")).isEqualTo("new");
+
+        verify(origin, times(2)).invoke("getValue");
+        verify(origin).invoke("setValue", "new");
+    }
+
+    @Test
+    void invokeMethodDoesNotCacheReadOverlappingMutatingMethod() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1));
+        when(origin.invoke("getValue")).thenAnswer(invocation -> {
+            element.invoke("setValue", "new");
+            return "old";
+        }).thenReturn("new");
+
+        assertThat((String) element.invoke("getValue")).isEqualTo("old");
+        assertThat((String) element.invoke("getValue")).isEqualTo("new");
+        assertThat((String) element.invoke("getValue")).isEqualTo("new");
+
+        verify(origin, times(2)).invoke("getValue");
+    }
+
+    @Test
+    void invokeMethodDoesNotCacheReadOverlappingInvalidate() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1));
+        when(origin.invoke("getText")).thenAnswer(invocation -> {
+            element.invalidate();
+            return "old";
+        }).thenReturn("new");
+
+        assertThat((String) element.invoke("getText")).isEqualTo("old");
+        assertThat((String) element.invoke("getText")).isEqualTo("new");
+
+        verify(origin, times(2)).invoke("getText");
+    }
+
+    @Test
+    void invokeMethodDropsCacheOnInvalidateAndTtl() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        when(origin.invoke(any())).thenReturn("text");
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1), Collections.singleton("getText"));
+        final CachingUnsafeSelenideElement zeroTtlElement =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ZERO);
+
+        element.invoke("getText");
+        element.invalidate();
+        element.invoke("getText");
+        zeroTtlElement.invoke("getText");
+        zeroTtlElement.invoke("getText");
+
+        verify(origin, times(4)).invoke("getText");
+    }
+
+    @Test
+    void invokeMethodDoesNotCacheFailures() {
+        final UnsafeSelenideElement origin = mock(UnsafeSelenideElement.class);
+        when(origin.invoke("isDisplayed")).thenThrow(new IllegalStateException()).thenReturn(true);
+        final CachingUnsafeSelenideElement element =
+            new ReadCachingUnsafeSelenideElementOf(origin, Duration.ofMinutes(1));
+
+        assertThatCode(() -> element.invoke("isDisplayed")).isInstanceOf(IllegalStateException.class);
+        assertThat((Boolean) element.invoke("isDisplayed")).isTrue();
+    }
+}
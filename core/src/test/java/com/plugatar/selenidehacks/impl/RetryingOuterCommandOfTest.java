@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Click;
+import com.plugatar.selenidehacks.Backoff;
+import com.plugatar.selenidehacks.OuterCommand;
+import com.plugatar.selenidehacks.RetryPolicy;
+import com.plugatar.selenidehacks.RetryingOuterCommand;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RetryingOuterCommandOf}.
+ */
+final class RetryingOuterCommandOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullArgs() {
+        assertThatCode(() -> new RetryingOuterCommandOf<>(null, RetryPolicy.of(1)))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new RetryingOuterCommandOf<>(element -> null, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void policyThrowsExceptionForInvalidArgs() {
+        assertThatCode(() -> RetryPolicy.of(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> RetryPolicy.of(1).withBudget(Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> RetryPolicy.of(1).withClassifier(null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RetryPolicy.of(1).withAttemptTimeout(Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void defaultClassifierClassifiesFailures() {
+        final RetryPolicy policy = RetryPolicy.of(1);
+
+        assertThat(policy.classify(new StaleElementReferenceException("stale")))
+            .isEqualTo(RetryPolicy.Decision.RETRY_IMMEDIATELY);
+        assertThat(policy.classify(new ElementClickInterceptedException("intercepted")))
+            .isEqualTo(RetryPolicy.Decision.RETRY_IMMEDIATELY);
+        assertThat(policy.classify(new AssertionError("wrapped", new StaleElementReferenceException("stale"))))
+            .isEqualTo(RetryPolicy.Decision.RETRY_IMMEDIATELY);
+        assertThat(policy.classify(new WebDriverException("driver")))
+            .isEqualTo(RetryPolicy.Decision.RETRY_WITH_BACKOFF);
+        assertThat(policy.classify(new AssertionError("wrapped", new WebDriverException("driver"))))
+            .isEqualTo(RetryPolicy.Decision.RETRY_WITH_BACKOFF);
+        assertThat(policy.classify(new AssertionError("wrapped", new JavascriptException("script"))))
+            .isEqualTo(RetryPolicy.Decision.FAIL);
+        assertThat(policy.classify(new AssertionError("condition")))
+            .isEqualTo(RetryPolicy.Decision.FAIL);
+        assertThat(policy.classify(new SelenideElementInvocationException("invalid")))
+            .isEqualTo(RetryPolicy.Decision.FAIL);
+    }
+
+    @Test
+    void executeOnMethodReturnsResultWithoutRetries() {
+        final SelenideElement element = mock(SelenideElement.class);
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(
+            target -> target == element ? "result" : null, RetryPolicy.of(3));
+
+        assertThat(command.executeOn(element)).isEqualTo("result");
+        assertThat(command.attempts()).isEqualTo(1);
+        assertThat(command.retries()).isZero();
+    }
+
+    @Test
+    void executeOnMethodRetriesStaleElementImmediately() {
+        final FailingCommand origin = new FailingCommand(
+            new StaleElementReferenceException("stale"), new ElementClickInterceptedException("intercepted"));
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(3)
+            .withBackoff(Backoff.of(Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMinutes(5))));
+
+        final long start = System.nanoTime();
+        assertThat(command.executeOn(mock(SelenideElement.class))).isEqualTo("result");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+        assertThat(command.attempts()).isEqualTo(3);
+        assertThat(command.retries()).isEqualTo(2);
+        assertThat(command.immediateRetries()).isEqualTo(2);
+        assertThat(command.failures()).isZero();
+    }
+
+    @Test
+    void executeOnMethodRetriesWebDriverExceptionWithBackoff() {
+        final FailingCommand origin = new FailingCommand(new WebDriverException("driver"));
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(2)
+            .withBackoff(Backoff.of(Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(10))));
+
+        assertThat(command.executeOn(mock(SelenideElement.class))).isEqualTo("result");
+        assertThat(command.retries()).isEqualTo(1);
+        assertThat(command.immediateRetries()).isZero();
+    }
+
+    @Test
+    void executeOnMethodDoesNotRetryAssertionError() {
+        final AssertionError failure = new AssertionError("condition");
+        final FailingCommand origin = new FailingCommand(failure);
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(5));
+
+        assertThatCode(() -> command.executeOn(mock(SelenideElement.class))).isSameAs(failure);
+        assertThat(command.attempts()).isEqualTo(1);
+        assertThat(command.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void executeOnMethodThrowsLastFailureWithFirstSuppressedAfterMaxAttempts() {
+        final StaleElementReferenceException first = new StaleElementReferenceException("first");
+        final StaleElementReferenceException last = new StaleElementReferenceException("last");
+        final FailingCommand origin = new FailingCommand(first, last);
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(2));
+
+        assertThatCode(() -> command.executeOn(mock(SelenideElement.class))).isSameAs(last);
+        assertThat(last.getSuppressed()).containsExactly(first);
+        assertThat(command.attempts()).isEqualTo(2);
+        assertThat(command.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void executeOnMethodDoesNotRetryAfterBudgetIsSpent() {
+        final WebDriverException failure = new WebDriverException("driver");
+        final FailingCommand origin = new FailingCommand(failure);
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(5)
+            .withBackoff(Backoff.of(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)))
+            .withBudget(Duration.ofMillis(100)));
+
+        assertThatCode(() -> command.executeOn(mock(SelenideElement.class))).isSameAs(failure);
+        assertThat(command.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    void executeOnMethodUsesCustomClassifier() {
+        final FailingCommand origin = new FailingCommand(new AssertionError("condition"));
+        final RetryingOuterCommand<String> command = new RetryingOuterCommandOf<>(origin, RetryPolicy.of(2)
+            .withClassifier(failure -> RetryPolicy.Decision.RETRY_IMMEDIATELY));
+
+        assertThat(command.executeOn(mock(SelenideElement.class))).isEqualTo("result");
+        assertThat(command.immediateRetries()).isEqualTo(1);
+    }
+
+    @Test
+    void executeOnMethodRetriesStaleElementOnProxyWithAttemptTimeout() {
+        final ProxyElements.Input input = ProxyElements.input();
+        for (int idx = 0; idx < 1000; ++idx) {
+            input.lookupFailures.add(new StaleElementReferenceException("stale"));
+        }
+        final RetryingOuterCommand<Object> command = new RetryingOuterCommandOf<>(
+            OuterCommand.of(new Click()), RetryPolicy.of(3).withAttemptTimeout(Duration.ofMillis(20)));
+
+        final long start = System.nanoTime();
+        assertThatCode(() -> command.executeOn(input.element))
+            .isInstanceOf(AssertionError.class)
+            .hasRootCauseInstanceOf(StaleElementReferenceException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isLessThan(Duration.ofMillis(ProxyElements.TIMEOUT_MS));
+        assertThat(command.attempts()).isEqualTo(3);
+        assertThat(command.immediateRetries()).isEqualTo(2);
+        assertThat(input.clicks).hasValue(0);
+    }
+
+    @Test
+    void executeOnMethodRetriesWrappedWebDriverExceptionOnProxyWithBackoff() {
+        final ProxyElements.Input input = ProxyElements.input();
+        for (int idx = 0; idx < 5; ++idx) {
+            input.lookupFailures.add(new WebDriverException("driver"));
+        }
+        final RetryingOuterCommand<Object> command = new RetryingOuterCommandOf<>(
+            OuterCommand.of(new Click()), RetryPolicy.of(10)
+            .withAttemptTimeout(Duration.ofMillis(20))
+            .withBackoff(Backoff.of(Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(10))));
+
+        command.executeOn(input.element);
+
+        assertThat(command.retries()).isPositive();
+        assertThat(command.immediateRetries()).isZero();
+        assertThat(input.clicks).hasValue(1);
+    }
+
+    @Test
+    void executeOnMethodLimitsAttemptOnProxyByBudget() {
+        final ProxyElements.Input input = ProxyElements.input();
+        for (int idx = 0; idx < 1000; ++idx) {
+            input.lookupFailures.add(new StaleElementReferenceException("stale"));
+        }
+        final RetryingOuterCommand<Object> command = new RetryingOuterCommandOf<>(
+            OuterCommand.of(new Click()), RetryPolicy.of(100).withBudget(Duration.ofMillis(50)));
+
+        final long start = System.nanoTime();
+        assertThatCode(() -> command.executeOn(input.element))
+            .isInstanceOf(AssertionError.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isLessThan(Duration.ofMillis(ProxyElements.TIMEOUT_MS));
+        assertThat(command.failures()).isEqualTo(1);
+    }
+
+    private static final class FailingCommand implements OuterCommand<String> {
+        private final Deque<Throwable> failures;
+
+        private FailingCommand(final Throwable... failures) {
+            this.failures = new ArrayDeque<>(Arrays.asList(failures));
+        }
+
+        @Override
+        public String executeOn(final SelenideElement element) {
+            final Throwable failure = this.failures.poll();
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return "result";
+        }
+    }
+}
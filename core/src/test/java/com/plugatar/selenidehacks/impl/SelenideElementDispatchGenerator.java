@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generator of the {@link SelenideElementDispatch} source for the Selenide version on the classpath.
+ * Method names and signatures are sorted, so the source does not depend on the reflective scan order. Run via {@code mvn -P generate-dispatch process-test-classes}.
+ */
+final class SelenideElementDispatchGenerator {
+    private static final String LICENSE_HEADER = String.join("\n",
+        "/*",
+        " * Copyright (c) 2022 Evgenii Plugatar",
+        " *",
+        " * Licensed under the Apache License, Version 2.0 (the \"License\");",
+        " * you may not use this file except in compliance with the License.",
+        " * See the NOTICE file distributed with this work for additional",
+        " * information regarding copyright ownership.",
+        " * You may obtain a copy of the License at",
+        " *",
+        " *     http://www.apache.org/licenses/LICENSE-2.0",
+        " *",
+        " * Unless required by applicable law or agreed to in writing, software",
+        " * distributed under the License is distributed on an \"AS IS\" BASIS,",
+        " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.",
+        " * See the License for the specific language governing permissions and",
+        " * limitations under the License.",
+        " */"
+    );
+
+    /**
+     * Utility class ctor.
+     */
+    private SelenideElementDispatchGenerator() {
+    }
+
+    /**
+     * Writes the generated source to given file.
+     *
+     * @param args the output file path
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SelenideElementDispatchGenerator <output file>");
+        }
+        final Path file = Paths.get(args[0]);
+        Files.write(file, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the generated source.
+     *
+     * @return the generated source
+     */
+    static String generate() {
+        final String version = MethodIndex.selenideVersion();
+        if (version == null) {
+            throw new IllegalStateException("Selenide version is unknown");
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(LICENSE_HEADER).append('\n')
+            .append("package com.plugatar.selenidehacks.impl;\n")
+            .append('\n')
+            .append("import javax.annotation.Nullable;\n")
+            .append("import javax.annotation.ParametersAreNonnullByDefault;\n")
+            .append('\n')
+            .append("/**\n")
+            .append(" * SelenideElement methods signatures grouped by method name and sorted\n")
+            .append(" * by parameters count and types.\n")
+            .append(" *\n")
+            .append(" * <p>Generated by {@code SelenideElementDispatchGenerator}, do not edit.\n")
+            .append(" * Regenerate after the Selenide version update via\n")
+            .append(" * {@code mvn -P generate-dispatch process-test-classes}.</p>\n")
+            .append(" */\n")
+            .append("@ParametersAreNonnullByDefault\n")
+            .append("final class SelenideElementDispatch {\n")
+            .append("    static final String SELENIDE_VERSION = \"").append(version).append("\";\n")
+            .append('\n')
+            .append("    /**\n")
+            .append("     * Utility class ctor.\n")
+            .append("     */\n")
+            .append("    private SelenideElementDispatch() {\n")
+            .append("    }\n")
+            .append('\n')
+            .append("    /**\n")
+            .append("     * Returns parameter types of SelenideElement methods with given name.\n")
+            .append("     *\n")
+            .append("     * @param methodName the method name\n")
+            .append("     * @return parameter types of methods or {@code null} if there is no method with given name\n")
+            .append("     */\n")
+            .append("    @Nullable\n")
+            .append("    static Class<?>[][] signaturesOf(final String methodName) {\n")
+            .append("        switch (methodName) {\n");
+        final Map<String, List<Method>> grouped =
+            new TreeMap<>(MethodIndex.groupByName(SelenideElement.class.getMethods()));
+        for (final Map.Entry<String, List<Method>> entry : grouped.entrySet()) {
+            sb.append("            case \"").append(entry.getKey()).append("\":\n")
+                .append("                return new Class<?>[][]{\n");
+            final List<Method> methods = new ArrayList<>(entry.getValue());
+            methods.sort(Comparator.comparingInt(Method::getParameterCount)
+                .thenComparing(method -> Arrays.toString(method.getParameterTypes())));
+            for (final Method method : methods) {
+                sb.append("                    {");
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                for (int idx = 0; idx < parameterTypes.length; ++idx) {
+                    if (idx != 0) {
+                        sb.append(", ");
+                    }
+                    sb.append(typeName(parameterTypes[idx])).append(".class");
+                }
+                sb.append("},\n");
+            }
+            sb.append("                };\n");
+        }
+        sb.append("            default:\n")
+            .append("                return null;\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return sb.toString();
+    }
+
+    private static String typeName(final Class<?> type) {
+        if (type.isArray()) {
+            return typeName(type.getComponentType()) + "[]";
+        }
+        if (type.getPackage() != null && type.getPackage().getName().equals("java.lang")
+            && type.getEnclosingClass() == null) {
+            return type.getSimpleName();
+        }
+        return type.getCanonicalName();
+    }
+}
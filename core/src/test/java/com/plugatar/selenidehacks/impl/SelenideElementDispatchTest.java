@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SelenideElementDispatch}.
+ */
+final class SelenideElementDispatchTest {
+
+    @Test
+    void dispatchCorrespondsToSelenideVersionOnClasspath() {
+        assertThat(SelenideElementDispatch.SELENIDE_VERSION).isEqualTo(MethodIndex.selenideVersion());
+    }
+
+    @Test
+    void dispatchIndexContainsSameMethodsAsReflectiveScan() {
+        final MethodIndex dispatchIndex = MethodIndex.dispatchIndex();
+        final Map<String, List<Method>> scanned = MethodIndex.groupByName(SelenideElement.class.getMethods());
+
+        for (final Map.Entry<String, List<Method>> entry : scanned.entrySet()) {
+            final Class<?>[][] signatures = SelenideElementDispatch.signaturesOf(entry.getKey());
+            assertThat(signatures).as(entry.getKey()).isNotNull();
+            assertThat(signatures.length).as(entry.getKey()).isEqualTo(entry.getValue().size());
+            final Set<Method> dispatched = new HashSet<>();
+            for (final Class<?>[] signature : signatures) {
+                dispatched.add(dispatchIndex.find(entry.getKey(), signature));
+            }
+            assertThat(dispatched).as(entry.getKey()).containsExactlyInAnyOrderElementsOf(entry.getValue());
+        }
+        assertThat(SelenideElementDispatch.signaturesOf("notExistingMethod")).isNull();
+        assertThat(dispatchIndex.resolve("notExistingMethod", null)).isNull();
+    }
+
+    @Test
+    void dispatchIndexResolvesSameOverloadsAsReflectiveIndex() {
+        final MethodIndex dispatchIndex = MethodIndex.dispatchIndex();
+        final MethodIndex reflectiveIndex = new MethodIndex(SelenideElement.class.getMethods());
+        final Object[][] invocations = {
+            {"getText", null},
+            {"append", new Object[]{"text"}},
+            {"val", null},
+            {"val", new Object[]{"text"}},
+            {"setValue", new Object[]{"text"}},
+            {"scrollIntoView", new Object[]{true}},
+            {"scrollIntoView", new Object[]{"{block: 'end'}"}},
+            {"should", new Object[]{Condition.visible}},
+            {"should", new Object[]{Condition.visible, Condition.enabled}},
+            {"should", new Object[]{Condition.visible, Duration.ZERO}},
+            {"shouldHave", new Object[]{Condition.text("text"), Duration.ZERO}},
+            {"find", new Object[]{"#id"}},
+            {"find", new Object[]{"#id", 1}},
+            {"$", new Object[]{"#id"}}
+        };
+
+        for (final Object[] invocation : invocations) {
+            final String methodName = (String) invocation[0];
+            final Object[] methodArgs = (Object[]) invocation[1];
+            assertThat(dispatchIndex.resolve(methodName, methodArgs)).as(methodName)
+                .isNotNull()
+                .isEqualTo(reflectiveIndex.resolve(methodName, methodArgs));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import com.plugatar.selenidehacks.SelenideElementInvoker;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SelenideElementInvokerOf}.
+ */
+final class SelenideElementInvokerOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullMethodNameParam() {
+        assertThatCode(() -> new SelenideElementInvokerOf<>((String) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsExceptionForNotFoundMethod() {
+        assertThatCode(() -> new SelenideElementInvokerOf<>("append", Duration.class))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void invokeOnMethodThrowsExceptionForNullElementParam() {
+        final SelenideElementInvoker<Object> invoker = new SelenideElementInvokerOf<>("getText");
+        assertThatCode(() -> invoker.invokeOn(null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void invokeOnMethodThrowsExceptionForWrongArgsCount() {
+        final SelenideElementInvoker<Object> invoker = new SelenideElementInvokerOf<>("append", String.class);
+        assertThatCode(() -> invoker.invokeOn(mock(SelenideElement.class), "abc", "def"))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void invokeOnMethodUseCorrectObjects() throws NoSuchMethodException {
+        final Object[] args = new Object[]{Condition.visible, Duration.ofSeconds(1)};
+        final AtomicReference<Object> proxyReference = new AtomicReference<>();
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                proxyReference.set(proxy);
+                methodReference.set(method);
+                argsReference.set(proxyArgs);
+                return proxy;
+            }
+        );
+
+        final Object result = new SelenideElementInvokerOf<>("should", Condition.class, Duration.class)
+            .invokeOn(proxySelenideElement, args);
+        final SoftAssertions referencesAssertions = new SoftAssertions();
+        referencesAssertions
+            .assertThat(proxyReference.get())
+            .as("proxy param is origin")
+            .isSameAs(proxySelenideElement);
+        referencesAssertions
+            .assertThat(methodReference.get())
+            .as("method param is resolved overload")
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition.class, Duration.class));
+        referencesAssertions
+            .assertThat(argsReference.get())
+            .as("args param is origin")
+            .containsExactly(args);
+        referencesAssertions
+            .assertThat(result)
+            .as("result is origin")
+            .isSameAs(proxySelenideElement);
+        referencesAssertions.assertAll();
+    }
+
+    @Test
+    void invokeOnMethodWorksWithNotProxyElement() {
+        final SelenideElement element = mock(SelenideElement.class);
+        new SelenideElementInvokerOf<>("append", String.class).invokeOn(element, "abc");
+        verify(element).append("abc");
+    }
+
+    @Test
+    void invokeOnMethodThrowsMethodException() {
+        final Throwable methodException = new Throwable();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                throw methodException;
+            }
+        );
+
+        final SelenideElementInvoker<Object> invoker = new SelenideElementInvokerOf<>("getText");
+        assertThatCode(() -> invoker.invokeOn(proxySelenideElement))
+            .isSameAs(methodException);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Append;
+import com.codeborne.selenide.commands.ShouldHave;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.OuterCommand;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SequenceCommandOf}.
+ */
+final class SequenceCommandOfTest {
+
+    @Test
+    void ctorThrowsExceptionForNullCommandsParam() {
+        assertThatCode(() -> new SequenceCommandOf((Command<?>[]) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsExceptionForNullCommand() {
+        assertThatCode(() -> new SequenceCommandOf(mock(Command.class), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void executeMethodResolvesElementOnceAndReturnsResults() throws Exception {
+        final SelenideElement proxy = mock(SelenideElement.class);
+        final WebElementSource locator = mock(WebElementSource.class);
+        final WebElement webElement = mock(WebElement.class);
+        when(locator.getWebElement()).thenReturn(webElement);
+        final List<WebElement> resolvedElements = new ArrayList<>();
+        final Command<Object> resolveCommand = (commandProxy, commandLocator, args) -> {
+            resolvedElements.add(commandLocator.getWebElement());
+            return args;
+        };
+
+        final List<Object> results = new SequenceCommandOf(resolveCommand, resolveCommand, (p, l, a) -> "last")
+            .execute(proxy, locator, new Object[]{"ignored"});
+
+        assertThat(results).containsExactly(Command.NO_ARGS, Command.NO_ARGS, "last");
+        assertThat(resolvedElements).containsExactly(webElement, webElement);
+        verify(locator, times(1)).getWebElement();
+    }
+
+    @Test
+    void executeMethodResolvesElementAgainForStaleElement() throws Exception {
+        final SelenideElement proxy = mock(SelenideElement.class);
+        final WebElementSource locator = mock(WebElementSource.class);
+        final WebElement staleElement = mock(WebElement.class);
+        final WebElement freshElement = mock(WebElement.class);
+        when(locator.getWebElement()).thenReturn(staleElement, freshElement);
+        final Command<Object> command = (commandProxy, commandLocator, args) -> {
+            final WebElement element = commandLocator.getWebElement();
+            if (element == staleElement) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return element;
+        };
+
+        final List<Object> results = new SequenceCommandOf(command, command).execute(proxy, locator, null);
+
+        assertThat(results).containsExactly(freshElement, freshElement);
+        verify(locator, times(2)).getWebElement();
+    }
+
+    @Test
+    void executeMethodThrowsExceptionForRepeatedStaleElement() {
+        final WebElementSource locator = mock(WebElementSource.class);
+        final AtomicInteger attempts = new AtomicInteger();
+        final Command<Object> command = (commandProxy, commandLocator, args) -> {
+            attempts.incrementAndGet();
+            throw new StaleElementReferenceException("stale");
+        };
+
+        assertThatCode(() -> new SequenceCommandOf(command).execute(mock(SelenideElement.class), locator, null))
+            .isInstanceOf(StaleElementReferenceException.class);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void executeOnMethodDoesNotRepeatCommandsBeforeFailedCommandOnProxy() {
+        final ProxyElements.Input input = ProxyElements.input();
+        final OuterCommand<List<Object>> sequence = OuterCommand.sequence(
+            new CustomArgsCommandOf<>(new Append(), "x"),
+            new CustomArgsCommandOf<>(new ShouldHave(), Condition.exactValue("y"))
+        );
+
+        assertThatCode(() -> sequence.executeOn(input.element))
+            .isInstanceOf(AssertionError.class);
+        assertThat(input.value.toString()).isEqualTo("x");
+    }
+
+    @Test
+    void executeMethodDoesNotRepeatCommandsBeforeFailedCommandOnProxy() {
+        final ProxyElements.Input input = ProxyElements.input();
+
+        assertThatCode(() -> input.element.execute(new SequenceCommandOf(
+            new CustomArgsCommandOf<>(new Append(), "x"),
+            new CustomArgsCommandOf<>(new ShouldHave(), Condition.exactValue("y"))
+        ))).isInstanceOf(AssertionError.class);
+        assertThat(input.value.toString()).isEqualTo("x");
+    }
+
+    @Test
+    void executeOnMethodRetriesOnlyFailedCommandOnProxy() {
+        final ProxyElements.Input input = ProxyElements.input();
+        final AtomicInteger flakyCalls = new AtomicInteger();
+        final Command<String> flakyCommand = (proxy, locator, args) -> {
+            locator.getWebElement();
+            if (flakyCalls.incrementAndGet() == 1) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return "flaky";
+        };
+
+        final List<Object> results = new SequenceCommandOf(new CustomArgsCommandOf<>(new Append(), "x"), flakyCommand)
+            .executeOn(input.element);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1)).isEqualTo("flaky");
+        assertThat(input.value.toString()).isEqualTo("x");
+        assertThat(flakyCalls).hasValue(2);
+        assertThat(input.lookups).hasValue(2);
+    }
+}
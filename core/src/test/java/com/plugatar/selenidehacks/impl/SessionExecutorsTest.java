@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SessionExecutors} and {@link SerialExecutor}.
+ */
+final class SessionExecutorsTest {
+
+    @Test
+    void ofMethodThrowsExceptionForNullElement() {
+        assertThatCode(() -> SessionExecutors.of(null))
+            .isInstanceOf(SelenideElementInvocationException.class);
+    }
+
+    @Test
+    void ofMethodReturnsOneExecutorPerDriver() {
+        final Driver firstDriver = mock(Driver.class);
+        final Driver secondDriver = mock(Driver.class);
+
+        final Executor executor = SessionExecutors.of(elementOf(firstDriver));
+
+        assertThat(SessionExecutors.of(elementOf(firstDriver))).isSameAs(executor);
+        assertThat(SessionExecutors.of(elementOf(secondDriver))).isNotSameAs(executor);
+    }
+
+    @Test
+    void serialExecutorExecutesTasksOneByOneInSubmissionOrder() throws Exception {
+        final ExecutorService backingExecutor = Executors.newFixedThreadPool(4);
+        final Executor executor = new SerialExecutor(backingExecutor);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(100);
+
+        for (int idx = 0; idx < 100; ++idx) {
+            final int taskNumber = idx;
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(taskNumber);
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        backingExecutor.shutdown();
+        assertThat(order).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    private static SelenideElement elementOf(final Driver driver) {
+        final WebElementSource source = mock(WebElementSource.class);
+        when(source.driver()).thenReturn(driver);
+        return ElementFinder.wrap(SelenideElement.class, source);
+    }
+}
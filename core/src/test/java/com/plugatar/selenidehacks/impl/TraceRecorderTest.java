@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.plugatar.selenidehacks.TraceRecorder;
+import com.plugatar.selenidehacks.TraceReplayer;
+import com.plugatar.selenidehacks.UnsafeSelenideElement;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link MappedTraceRecorderOf} and {@link TraceReplayerOf}.
+ */
+final class TraceRecorderTest {
+
+    @Test
+    void recordedInvocationsAreReplayed() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final String text = "\u043f\u0440\u0438\u0432\u0435\u0442";
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            recorder.invoked("getText", "getText", null, "text", 100L, null);
+            recorder.invoked("setValue", "setValue", new Object[]{text}, null, 200L, null);
+            recorder.invoked("scrollIntoView", "scrollIntoView", new Object[]{true}, null, 300L, null);
+            recorder.invoked("com.example.Cmd", "execute",
+                new Object[]{new StringBuilder(), Duration.ofSeconds(2), 5, -7L, 1.5, new String[]{"a", null}},
+                null, 400L, new AssertionError());
+            recorder.close();
+            recorder.invoked("click", "click", null, null, 1L, null);
+
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            doThrow(new AssertionError()).when(target).invoke(eq("execute"), any());
+            final long count = new TraceReplayerOf(file).replayOn(target, false);
+
+            assertThat(count).isEqualTo(4L);
+            final InOrder order = inOrder(target);
+            order.verify(target).invoke("getText", (Object[]) null);
+            order.verify(target).invoke("setValue", text);
+            order.verify(target).invoke("scrollIntoView", true);
+            order.verify(target).invoke("execute", new TraceFormat.Opaque(StringBuilder.class.getName()),
+                Duration.ofSeconds(2), 5, -7L, 1.5, new String[]{"a", null});
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void unexpectedFailuresOfReplayedInvocationsAreThrown() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            recorder.close();
+
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            final IllegalStateException failure = new IllegalStateException();
+            doThrow(failure).when(target).invoke("click", (Object[]) null);
+            assertThatCode(() -> TraceReplayer.of(file).replayOn(target, false))
+                .isSameAs(failure);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void replayStopsAtFirstNotPublishedRecord() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            recorder.invoked("getText", "getText", null, "text", 1L, null);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            recorder.close();
+            final int secondRecordTagPosition = secondRecordTagPosition(file);
+            writeByte(file, secondRecordTagPosition, 0);
+
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(1L);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void replayFailsForMalformedRecord() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            recorder.invoked("getText", "getText", null, "text", 1L, null);
+            recorder.close();
+            writeByte(file, secondRecordTagPosition(file) + TraceFormat.RECORD_HEADER_SIZE - 1, 1);
+
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            assertThatCode(() -> TraceReplayer.of(file).replayOn(target, false))
+                .isInstanceOf(IllegalStateException.class);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static int secondRecordTagPosition(final Path file) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        final int firstRecordPosition = 5;
+        return firstRecordPosition + TraceFormat.RECORD_HEADER_SIZE + bytes.getInt(firstRecordPosition + 1);
+    }
+
+    private static void writeByte(final Path file,
+                                  final int position,
+                                  final int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) value}), position);
+        }
+    }
+
+    @Test
+    void recorderMapsNextRegionWhenCurrentIsFull() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            final char[] chars = new char[1000];
+            for (int idx = 0; idx < 10_000; ++idx) {
+                chars[idx % chars.length] = (char) ('a' + idx % 26);
+                recorder.invoked("setValue", "setValue", new Object[]{new String(chars)}, null, 1L, null);
+            }
+            recorder.close();
+
+            assertThat(Files.size(file)).isGreaterThan(8L * 1024 * 1024);
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(10_000L);
+            verify(target, times(10_000)).invoke(eq("setValue"), any());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void traceIsReplayedBeforeClosing() throws IOException {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            recorder.invoked("getText", "getText", null, "text", 1L, null);
+
+            final UnsafeSelenideElement target = mock(UnsafeSelenideElement.class);
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(2L);
+            recorder.invoked("click", "click", null, null, 1L, null);
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(3L);
+            recorder.close();
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(3L);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void stringTableIsResetWhenFull() throws IOException {
+        final TraceFormat.Output output = new TraceFormat.Output();
+        for (int idx = 0; idx < TraceFormat.MAX_STRINGS * 3; ++idx) {
+            output.reset();
+            output.resetStringsIfFull();
+            output.writeString("string" + idx);
+        }
+        assertThat(output.stringsCount()).isLessThanOrEqualTo(TraceFormat.MAX_STRINGS);
+
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            final int count = TraceFormat.MAX_STRINGS * 2 + 10;
+            for (int idx = 0; idx < count; ++idx) {
+                recorder.invoked("setValue", "setValue", new Object[]{"value" + idx % 5000}, null, 1L, null);
+            }
+            recorder.close();
+
+            final FirstArgs target = new FirstArgs();
+            assertThat(TraceReplayer.of(file).replayOn(target, false)).isEqualTo(count);
+            final List<Object> expected = new ArrayList<>();
+            for (int idx = 0; idx < count; ++idx) {
+                expected.add("value" + idx % 5000);
+            }
+            assertThat(target.firstArgs).isEqualTo(expected);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void concurrentInvocationsAreRecorded() throws Exception {
+        final Path file = Files.createTempFile("selenide-hacks", ".trace");
+        try {
+            final TraceRecorder recorder = new MappedTraceRecorderOf(file);
+            final int threadsCount = 8;
+            final int invocationsCount = 2_000;
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Thread> threads = new ArrayList<>();
+            for (int threadIdx = 0; threadIdx < threadsCount; ++threadIdx) {
+                final String value = "thread" + threadIdx;
+                final Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int idx = 0; idx < invocationsCount; ++idx) {
+                        recorder.invoked("setValue", "setValue", new Object[]{value}, null, 1L, null);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            recorder.close();
+
+            final FirstArgs target = new FirstArgs();
+            assertThat(TraceReplayer.of(file).replayOn(target, false))
+                .isEqualTo((long) threadsCount * invocationsCount);
+            for (int threadIdx = 0; threadIdx < threadsCount; ++threadIdx) {
+                final String value = "thread" + threadIdx;
+                assertThat(target.firstArgs).filteredOn(value::equals).hasSize(invocationsCount);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static final class FirstArgs implements UnsafeSelenideElement {
+        private final List<Object> firstArgs = new ArrayList<>();
+
+        @Override
+        public <ANY> ANY invoke(final String methodName,
+                                final Object... methodArgs) {
+            this.firstArgs.add(methodArgs == null ? null : methodArgs[0]);
+            return null;
+        }
+
+        @Override
+        public SelenideElement asSelenideElement() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -17,6 +17,8 @@
  */
 package com.plugatar.selenidehacks.impl;
 
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.plugatar.selenidehacks.SelenideElementInvocationException;
 import com.plugatar.selenidehacks.UnsafeSelenideElement;
@@ -26,7 +28,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -118,6 +122,44 @@ final class UnsafeSelenideElementOfTest {
         referencesAssertions.assertAll();
     }
 
+    @Test
+    void invokeMethodUseOverloadMatchingArgs() throws NoSuchMethodException {
+        final AtomicReference<Method> methodReference = new AtomicReference<>();
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                methodReference.set(method);
+                argsReference.set(proxyArgs);
+                return null;
+            }
+        );
+        final UnsafeSelenideElement unsafeSelenideElement = new UnsafeSelenideElementOf(proxySelenideElement);
+
+        unsafeSelenideElement.invoke("should", Condition.visible, Duration.ofSeconds(1));
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition.class, Duration.class));
+        assertThat(argsReference.get()).containsExactly(Condition.visible, Duration.ofSeconds(1));
+        unsafeSelenideElement.invoke("should", Condition.visible, Condition.enabled);
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition[].class));
+        assertThat(argsReference.get())
+            .containsExactly((Object) new Condition[]{Condition.visible, Condition.enabled});
+        unsafeSelenideElement.invoke("should", Condition.visible);
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("should", Condition[].class));
+        assertThat(argsReference.get()).containsExactly((Object) new Condition[]{Condition.visible});
+        unsafeSelenideElement.invoke("sendKeys", "abc");
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("sendKeys", CharSequence[].class));
+        assertThat(argsReference.get()).containsExactly((Object) new CharSequence[]{"abc"});
+        unsafeSelenideElement.invoke("scrollIntoView", "{block: 'center'}");
+        assertThat(methodReference.get())
+            .isEqualTo(SelenideElement.class.getMethod("scrollIntoView", String.class));
+        assertThat(argsReference.get()).containsExactly("{block: 'center'}");
+    }
+
     @Test
     void invokeMethodThrowsExceptionForMethodException() {
         final Throwable methodException = new Throwable();
@@ -145,4 +187,29 @@ final class UnsafeSelenideElementOfTest {
         final UnsafeSelenideElement unsafeSelenideElement = new UnsafeSelenideElementOf(proxySelenideElement);
         assertThat(unsafeSelenideElement.asSelenideElement()).isSameAs(proxySelenideElement);
     }
+
+    @Test
+    void arityMethodsForwardArgsAsIs() {
+        final AtomicReference<Object[]> argsReference = new AtomicReference<>();
+        final SelenideElement proxySelenideElement = (SelenideElement) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, proxyArgs) -> {
+                argsReference.set(proxyArgs == null ? null : proxyArgs.clone());
+                return null;
+            }
+        );
+        final UnsafeSelenideElement unsafeSelenideElement = new UnsafeSelenideElementOf(proxySelenideElement);
+        final Object[] arrayArg = {"a", "b"};
+        final Command<Object> command = (proxy, locator, args) -> null;
+
+        unsafeSelenideElement.invoke0("getText");
+        assertThat(argsReference.get()).isNull();
+        unsafeSelenideElement.invoke1("setValue", arrayArg);
+        assertThat(argsReference.get()).containsExactly((Object) arrayArg);
+        unsafeSelenideElement.invoke3("setValue", "a", "b", "c");
+        assertThat(argsReference.get()).containsExactly("a", "b", "c");
+        unsafeSelenideElement.execute(command, Duration.ofSeconds(1));
+        assertThat(argsReference.get()).containsExactly(command, Duration.ofSeconds(1));
+    }
 }
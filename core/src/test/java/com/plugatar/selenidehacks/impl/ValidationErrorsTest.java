@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.impl;
+
+import com.plugatar.selenidehacks.SelenideElementInvocationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link ValidationErrors}.
+ */
+final class ValidationErrorsTest {
+
+    @Test
+    void modeOfMethodReturnsModeByPropertyValue() {
+        assertThat(ValidationErrors.Mode.of(null)).isSameAs(ValidationErrors.Mode.FULL);
+        assertThat(ValidationErrors.Mode.of("unknown")).isSameAs(ValidationErrors.Mode.FULL);
+        assertThat(ValidationErrors.Mode.of("Stackless")).isSameAs(ValidationErrors.Mode.STACKLESS);
+        assertThat(ValidationErrors.Mode.of(" preallocated ")).isSameAs(ValidationErrors.Mode.PREALLOCATED);
+    }
+
+    @Test
+    void fullModeReturnsNewErrorWithStackTrace() {
+        final SelenideElementInvocationException error = ValidationErrors.Mode.FULL.error("message");
+
+        assertThat(error).hasMessage("message");
+        assertThat(error.getStackTrace()).isNotEmpty();
+        assertThat(ValidationErrors.Mode.FULL.error("message")).isNotSameAs(error);
+    }
+
+    @Test
+    void stacklessModeReturnsNewErrorWithoutStackTrace() {
+        final SelenideElementInvocationException error = ValidationErrors.Mode.STACKLESS.error("message");
+
+        assertThat(error).hasMessage("message");
+        assertThat(error.getStackTrace()).isEmpty();
+        assertThat(ValidationErrors.Mode.STACKLESS.error("message")).isNotSameAs(error);
+    }
+
+    @Test
+    void preallocatedModeReturnsSharedImmutableErrorPerMessage() {
+        final SelenideElementInvocationException error = ValidationErrors.Mode.PREALLOCATED.error("message");
+        error.addSuppressed(new RuntimeException());
+
+        assertThat(error).hasMessage("message");
+        assertThat(error.getStackTrace()).isEmpty();
+        assertThat(error.getSuppressed()).isEmpty();
+        assertThat(ValidationErrors.Mode.PREALLOCATED.error("message")).isSameAs(error);
+        assertThat(ValidationErrors.Mode.PREALLOCATED.error("other message")).isNotSameAs(error);
+        assertThatCode(() -> error.initCause(new RuntimeException()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void defaultModeIsFull() {
+        assertThatCode(() -> Invocations.selenideElementMethod("notExistingMethod", null))
+            .isInstanceOf(SelenideElementInvocationException.class)
+            .satisfies(ex -> assertThat(ex.getStackTrace()).isNotEmpty());
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating typed facades of {@code com.plugatar.selenidehacks.CommandFacade}
+ * annotated commands. Each facade method executes the command via {@code SelenideElement.execute}, the overload
+ * with the additional {@code Duration} parameter passes the timeout to Selenide. Methods of commands without
+ * arguments pass the prepared command instance as is. Selenide executes the command with no arguments, so
+ * methods of commands with arguments bind them to the prepared command via fixed-arity
+ * {@code CustomArgsCommand.of} call.
+ *
+ * <p>Each facade is generated once. Commands of an already generated facade found in later rounds are
+ * reported as errors.</p>
+ */
+public class CommandFacadeProcessor extends AbstractProcessor {
+    private static final String ANNOTATION = "com.plugatar.selenidehacks.CommandFacade";
+    private static final String COMMAND = "com.codeborne.selenide.Command";
+    private static final String COMMAND_SUFFIX = "Command";
+    private final Set<String> generatedFacades = new HashSet<>();
+    private Messager messager;
+    private Filer filer;
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                          final RoundEnvironment roundEnv) {
+        final TypeElement annotation = this.elements.getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        final Map<String, List<FacadeMethod>> facades = new LinkedHashMap<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            final FacadeMethod method = this.facadeMethod(element);
+            if (method != null) {
+                facades.computeIfAbsent(method.facadeName, name -> new ArrayList<>()).add(method);
+            }
+        }
+        facades.forEach((facadeName, methods) -> {
+            if (this.generatedFacades.add(facadeName)) {
+                this.writeFacade(facadeName, methods);
+            } else {
+                for (final FacadeMethod method : methods) {
+                    this.error(method.command, "@CommandFacade facade " + facadeName
+                        + " is already generated in the previous round");
+                }
+            }
+        });
+        return true;
+    }
+
+    private FacadeMethod facadeMethod(final Element element) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            this.error(element, "@CommandFacade is applicable only to non-abstract classes");
+            return null;
+        }
+        final TypeElement command = (TypeElement) element;
+        if (!command.getModifiers().contains(Modifier.PUBLIC)
+            || command.getNestingKind().isNested() && !command.getModifiers().contains(Modifier.STATIC)) {
+            this.error(element, "@CommandFacade command has to be a public top level or static nested class");
+            return null;
+        }
+        if (!this.hasPublicNoArgsCtor(command)) {
+            this.error(element, "@CommandFacade command has to have public no-args constructor");
+            return null;
+        }
+        final TypeMirror returnType = this.commandReturnType(command.asType());
+        if (returnType == null) {
+            this.error(element, "@CommandFacade command has to implement " + COMMAND);
+            return null;
+        }
+        final AnnotationMirror mirror = this.annotationMirror(command);
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : this.elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        final String facadeName = (String) values.get("facade");
+        if (!SourceVersion.isIdentifier(facadeName) || SourceVersion.isKeyword(facadeName)) {
+            this.error(element, "@CommandFacade facade is not a valid class name: " + facadeName);
+            return null;
+        }
+        String methodName = (String) values.get("method");
+        if (methodName.isEmpty()) {
+            methodName = defaultMethodName(command.getSimpleName().toString());
+        }
+        if (!SourceVersion.isIdentifier(methodName) || SourceVersion.isKeyword(methodName)) {
+            this.error(element, "@CommandFacade method is not a valid method name: " + methodName);
+            return null;
+        }
+        final List<String> argTypes = new ArrayList<>();
+        for (final Object value : (List<?>) values.get("args")) {
+            argTypes.add(this.types.erasure((TypeMirror) ((AnnotationValue) value).getValue()).toString());
+        }
+        final List<String> argNames = new ArrayList<>();
+        for (final Object value : (List<?>) values.get("argNames")) {
+            argNames.add((String) ((AnnotationValue) value).getValue());
+        }
+        if (argNames.isEmpty()) {
+            for (int idx = 0; idx < argTypes.size(); ++idx) {
+                argNames.add("arg" + idx);
+            }
+        } else if (argNames.size() != argTypes.size()) {
+            this.error(element, "@CommandFacade argNames count does not match args count");
+            return null;
+        }
+        final Set<String> uniqueNames = new HashSet<>();
+        uniqueNames.add("element");
+        uniqueNames.add("timeout");
+        for (final String argName : argNames) {
+            if (!SourceVersion.isIdentifier(argName) || SourceVersion.isKeyword(argName)
+                || !uniqueNames.add(argName)) {
+                this.error(element, "@CommandFacade argNames contains invalid or duplicate name: " + argName);
+                return null;
+            }
+        }
+        final PackageElement commandPackage = this.elements.getPackageOf(command);
+        final String packageName = commandPackage.isUnnamed() ? "" : commandPackage.getQualifiedName().toString();
+        return new FacadeMethod(
+            command,
+            packageName.isEmpty() ? facadeName : packageName + "." + facadeName,
+            methodName,
+            returnType.toString(),
+            argTypes,
+            argNames
+        );
+    }
+
+    private void writeFacade(final String facadeName,
+                             final List<FacadeMethod> methods) {
+        final Set<String> signatures = new HashSet<>();
+        for (final FacadeMethod method : methods) {
+            if (!signatures.add(method.methodName + method.argTypes)) {
+                this.error(method.command, "@CommandFacade method " + method.methodName + method.argTypes
+                    + " is duplicated in " + facadeName);
+                return;
+            }
+        }
+        final int lastDot = facadeName.lastIndexOf('.');
+        final String packageName = lastDot == -1 ? "" : facadeName.substring(0, lastDot);
+        final String simpleName = facadeName.substring(lastDot + 1);
+        final StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n")
+            .append(" * Typed facade of the commands. Generated by {@code ")
+            .append(CommandFacadeProcessor.class.getName()).append("}, do not edit.\n")
+            .append(" */\n")
+            .append("public final class ").append(simpleName).append(" {\n");
+        for (int idx = 0; idx < methods.size(); ++idx) {
+            final FacadeMethod method = methods.get(idx);
+            sb.append("    private static final ").append(method.commandName()).append(' ')
+                .append(constantName(idx)).append(" = new ").append(method.commandName()).append("();\n");
+        }
+        sb.append('\n')
+            .append("    private ").append(simpleName).append("() {\n")
+            .append("    }\n");
+        for (int idx = 0; idx < methods.size(); ++idx) {
+            final FacadeMethod method = methods.get(idx);
+            this.appendMethod(sb, method, constantName(idx), false);
+            this.appendMethod(sb, method, constantName(idx), true);
+        }
+        sb.append("}\n");
+        final Element[] originatingElements = new Element[methods.size()];
+        for (int idx = 0; idx < methods.size(); ++idx) {
+            originatingElements[idx] = methods.get(idx).command;
+        }
+        try (Writer writer = this.filer.createSourceFile(facadeName, originatingElements).openWriter()) {
+            writer.write(sb.toString());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void appendMethod(final StringBuilder sb,
+                              final FacadeMethod method,
+                              final String constantName,
+                              final boolean withTimeout) {
+        sb.append('\n')
+            .append("    /**\n")
+            .append("     * Executes {@link ").append(method.commandName()).append("} on given element")
+            .append(withTimeout ? " with given timeout" : "").append(".\n")
+            .append("     *\n")
+            .append("     * @param element the element\n");
+        for (final String argName : method.argNames) {
+            sb.append("     * @param ").append(argName).append(" the command argument\n");
+        }
+        if (withTimeout) {
+            sb.append("     * @param timeout the timeout\n");
+        }
+        sb.append("     * @return the command returned value\n")
+            .append("     */\n")
+            .append("    public static ").append(method.returnType).append(' ').append(method.methodName)
+            .append("(final com.codeborne.selenide.SelenideElement element");
+        for (int idx = 0; idx < method.argTypes.size(); ++idx) {
+            sb.append(", final ").append(method.argTypes.get(idx)).append(' ').append(method.argNames.get(idx));
+        }
+        if (withTimeout) {
+            sb.append(", final java.time.Duration timeout");
+        }
+        sb.append(") {\n")
+            .append("        return element.execute(");
+        if (method.argNames.isEmpty()) {
+            sb.append(constantName);
+        } else {
+            sb.append("com.plugatar.selenidehacks.CustomArgsCommand.of(").append(constantName).append(", ");
+            if (method.argTypes.size() == 1 && method.argTypes.get(0).endsWith("[]")) {
+                sb.append("(Object) ");
+            }
+            sb.append(String.join(", ", method.argNames)).append(')');
+        }
+        sb.append(withTimeout ? ", timeout" : "").append(");\n")
+            .append("    }\n");
+    }
+
+    private boolean hasPublicNoArgsCtor(final TypeElement command) {
+        for (final ExecutableElement ctor : ElementFilter.constructorsIn(command.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && ctor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeMirror commandReturnType(final TypeMirror type) {
+        for (final TypeMirror supertype : this.types.directSupertypes(type)) {
+            final Element supertypeElement = this.types.asElement(supertype);
+            if (supertypeElement instanceof TypeElement
+                && ((TypeElement) supertypeElement).getQualifiedName().contentEquals(COMMAND)) {
+                final List<? extends TypeMirror> typeArgs = ((DeclaredType) supertype).getTypeArguments();
+                if (typeArgs.isEmpty()
+                    || typeArgs.get(0).getKind() != TypeKind.DECLARED && typeArgs.get(0).getKind() != TypeKind.ARRAY) {
+                    return this.elements.getTypeElement(Object.class.getName()).asType();
+                }
+                return typeArgs.get(0);
+            }
+            final TypeMirror returnType = this.commandReturnType(supertype);
+            if (returnType != null) {
+                return returnType;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationMirror annotationMirror(final TypeElement command) {
+        for (final AnnotationMirror mirror : command.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("Not found @CommandFacade on " + command);
+    }
+
+    private void error(final Element element,
+                       final String message) {
+        this.messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String constantName(final int idx) {
+        return "COMMAND_" + idx;
+    }
+
+    static String defaultMethodName(final String commandSimpleName) {
+        String name = commandSimpleName;
+        if (name.endsWith(COMMAND_SUFFIX) && name.length() > COMMAND_SUFFIX.length()) {
+            name = name.substring(0, name.length() - COMMAND_SUFFIX.length());
+        }
+        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+    }
+
+    /**
+     * Facade method of the command.
+     */
+    private static final class FacadeMethod {
+        private final TypeElement command;
+        private final String facadeName;
+        private final String methodName;
+        private final String returnType;
+        private final List<String> argTypes;
+        private final List<String> argNames;
+
+        private FacadeMethod(final TypeElement command,
+                             final String facadeName,
+                             final String methodName,
+                             final String returnType,
+                             final List<String> argTypes,
+                             final List<String> argNames) {
+            this.command = command;
+            this.facadeName = facadeName;
+            this.methodName = methodName;
+            this.returnType = returnType;
+            this.argTypes = argTypes;
+            this.argNames = argNames;
+        }
+
+        private String commandName() {
+            return this.command.getQualifiedName().toString();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.processor;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CommandFacadeProcessor}.
+ */
+final class CommandFacadeProcessorTest {
+
+    @Test
+    void defaultMethodNameIsCommandNameWithoutSuffix() {
+        assertThat(CommandFacadeProcessor.defaultMethodName("RepeatCommand")).isEqualTo("repeat");
+        assertThat(CommandFacadeProcessor.defaultMethodName("Command")).isEqualTo("command");
+        assertThat(CommandFacadeProcessor.defaultMethodName("Clear")).isEqualTo("clear");
+    }
+
+    @Test
+    void generatedFacadeExecutesCommand() throws Exception {
+        final Path dir = Files.createTempDirectory("command-facade");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir,
+            "package com.example;\n"
+                + "import com.codeborne.selenide.Command;\n"
+                + "import com.codeborne.selenide.SelenideElement;\n"
+                + "import com.codeborne.selenide.impl.WebElementSource;\n"
+                + "import com.plugatar.selenidehacks.CommandFacade;\n"
+                + "@CommandFacade(facade = \"MyCommands\", args = {String.class, int.class},"
+                + " argNames = {\"text\", \"count\"})\n"
+                + "public class RepeatCommand implements Command<String> {\n"
+                + "    @Override\n"
+                + "    public String execute(SelenideElement proxy, WebElementSource locator, Object[] args) {\n"
+                + "        StringBuilder sb = new StringBuilder();\n"
+                + "        for (int idx = 0; idx < (Integer) args[1]; ++idx) { sb.append(args[0]); }\n"
+                + "        return sb.toString();\n"
+                + "    }\n"
+                + "}\n"
+        );
+
+        assertThat(diagnostics).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        assertThat(new String(Files.readAllBytes(dir.resolve("com/example/MyCommands.java")), StandardCharsets.UTF_8))
+            .contains("public static java.lang.String repeat(final com.codeborne.selenide.SelenideElement element, "
+                + "final java.lang.String text, final int count) {");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+            CommandFacadeProcessorTest.class.getClassLoader())) {
+            final Class<?> facade = classLoader.loadClass("com.example.MyCommands");
+            final Method repeat = facade.getMethod("repeat", SelenideElement.class, String.class, int.class);
+            final Method repeatWithTimeout =
+                facade.getMethod("repeat", SelenideElement.class, String.class, int.class, Duration.class);
+            final List<Object[]> executeArgs = new ArrayList<>();
+            final SelenideElement element = executingElement(executeArgs);
+
+            assertThat(repeat.invoke(null, element, "ab", 2)).isEqualTo("abab");
+            assertThat(repeatWithTimeout.invoke(null, element, "c", 3, Duration.ofSeconds(1))).isEqualTo("ccc");
+            assertThat(executeArgs).hasSize(2);
+            assertThat(executeArgs.get(0)).hasSize(1);
+            assertThat(executeArgs.get(1)[1]).isEqualTo(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void generatedFacadePassesCommandWithoutArgsAsIs() throws Exception {
+        final Path dir = Files.createTempDirectory("command-facade");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir,
+            "package com.example;\n"
+                + "import com.codeborne.selenide.Command;\n"
+                + "import com.codeborne.selenide.SelenideElement;\n"
+                + "import com.codeborne.selenide.impl.WebElementSource;\n"
+                + "import com.plugatar.selenidehacks.CommandFacade;\n"
+                + "@CommandFacade(facade = \"MyCommands\")\n"
+                + "public class RepeatCommand implements Command<String> {\n"
+                + "    @Override\n"
+                + "    public String execute(SelenideElement proxy, WebElementSource locator, Object[] args) {\n"
+                + "        return \"result\";\n"
+                + "    }\n"
+                + "}\n"
+        );
+
+        assertThat(diagnostics).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+            CommandFacadeProcessorTest.class.getClassLoader())) {
+            final Class<?> facade = classLoader.loadClass("com.example.MyCommands");
+            final Method repeat = facade.getMethod("repeat", SelenideElement.class);
+            final Method repeatWithTimeout = facade.getMethod("repeat", SelenideElement.class, Duration.class);
+            final List<Object[]> executeArgs = new ArrayList<>();
+            final SelenideElement element = executingElement(executeArgs);
+
+            assertThat(repeat.invoke(null, element)).isEqualTo("result");
+            assertThat(repeatWithTimeout.invoke(null, element, Duration.ofSeconds(1))).isEqualTo("result");
+            assertThat(executeArgs).hasSize(2);
+            assertThat(executeArgs.get(0)[0].getClass().getName()).isEqualTo("com.example.RepeatCommand");
+            assertThat(executeArgs.get(1)[0]).isSameAs(executeArgs.get(0)[0]);
+        }
+    }
+
+    @Test
+    void commandOfFacadeGeneratedInPreviousRoundIsReported() throws IOException {
+        final Path dir = Files.createTempDirectory("command-facade");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir,
+            "package com.example;\n"
+                + "import com.codeborne.selenide.Command;\n"
+                + "import com.codeborne.selenide.SelenideElement;\n"
+                + "import com.codeborne.selenide.impl.WebElementSource;\n"
+                + "import com.plugatar.selenidehacks.CommandFacade;\n"
+                + "@CommandFacade(facade = \"MyCommands\")\n"
+                + "public class RepeatCommand implements Command<String> {\n"
+                + "    @Override\n"
+                + "    public String execute(SelenideElement proxy, WebElementSource locator, Object[] args) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "}\n",
+            new LateCommandProcessor()
+        );
+
+        assertThat(diagnostics).anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+            && diagnostic.getMessage(null).contains("MyCommands is already generated in the previous round"));
+        assertThat(dir.resolve("com/example/MyCommands.java")).exists();
+    }
+
+    @Test
+    void invalidCommandIsReported() throws IOException {
+        final Path dir = Files.createTempDirectory("command-facade");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir,
+            "package com.example;\n"
+                + "import com.codeborne.selenide.Command;\n"
+                + "import com.codeborne.selenide.SelenideElement;\n"
+                + "import com.codeborne.selenide.impl.WebElementSource;\n"
+                + "import com.plugatar.selenidehacks.CommandFacade;\n"
+                + "@CommandFacade\n"
+                + "public class RepeatCommand implements Command<String> {\n"
+                + "    private RepeatCommand() { }\n"
+                + "    @Override\n"
+                + "    public String execute(SelenideElement proxy, WebElementSource locator, Object[] args) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "}\n"
+        );
+
+        assertThat(diagnostics).anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+            && diagnostic.getMessage(null).contains("has to have public no-args constructor"));
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(final Path dir,
+                                                                      final String source,
+                                                                      final Processor... extraProcessors)
+        throws IOException {
+        final Path sourceFile = dir.resolve("com/example/RepeatCommand.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            Arrays.asList("-d", dir.toString(), "-s", dir.toString(),
+                "-classpath", System.getProperty("java.class.path")),
+            null,
+            compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8).getJavaFileObjects(sourceFile.toFile())
+        );
+        final List<Processor> processors = new ArrayList<>(Arrays.asList(extraProcessors));
+        processors.add(new CommandFacadeProcessor());
+        task.setProcessors(processors);
+        task.call();
+        return diagnostics.getDiagnostics();
+    }
+
+    private static SelenideElement executingElement(final List<Object[]> executeArgs) {
+        return (SelenideElement) Proxy.newProxyInstance(
+            CommandFacadeProcessorTest.class.getClassLoader(),
+            new Class[]{SelenideElement.class},
+            (proxy, method, args) -> {
+                if (!method.getName().equals("execute")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                executeArgs.add(args);
+                return ((Command<?>) args[0]).execute((SelenideElement) proxy, (WebElementSource) null, null);
+            }
+        );
+    }
+
+    /**
+     * Processor generating {@code @CommandFacade} command of {@code MyCommands} facade in the first round.
+     */
+    @SupportedAnnotationTypes("*")
+    private static final class LateCommandProcessor extends AbstractProcessor {
+        private boolean generated = false;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations,
+                               final RoundEnvironment roundEnv) {
+            if (this.generated) {
+                return false;
+            }
+            this.generated = true;
+            try (Writer writer =
+                     this.processingEnv.getFiler().createSourceFile("com.example.LateCommand").openWriter()) {
+                writer.write("package com.example;\n"
+                    + "import com.codeborne.selenide.Command;\n"
+                    + "import com.codeborne.selenide.SelenideElement;\n"
+                    + "import com.codeborne.selenide.impl.WebElementSource;\n"
+                    + "import com.plugatar.selenidehacks.CommandFacade;\n"
+                    + "@CommandFacade(facade = \"MyCommands\")\n"
+                    + "public class LateCommand implements Command<String> {\n"
+                    + "    @Override\n"
+                    + "    public String execute(SelenideElement proxy, WebElementSource locator, Object[] args) {\n"
+                    + "        return null;\n"
+                    + "    }\n"
+                    + "}\n");
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return false;
+        }
+    }
+}
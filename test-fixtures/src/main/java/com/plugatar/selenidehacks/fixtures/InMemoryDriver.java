@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SharedDownloadsFolder;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+
+/**
+ * Browserless {@link Driver}. The WebDriver of this driver does not support any command, so only
+ * WebElement based SelenideElement methods can be used.
+ */
+@ParametersAreNonnullByDefault
+public class InMemoryDriver implements Driver {
+    private final Config config;
+    private final Browser browser;
+    private final WebDriver webDriver;
+
+    /**
+     * Ctor with default {@link SelenideConfig} without screenshots and page sources saving.
+     */
+    public InMemoryDriver() {
+        this(new SelenideConfig().screenshots(false).savePageSource(false));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param config the config
+     * @throws NullPointerException if {@code config} is {@code null}
+     */
+    public InMemoryDriver(final Config config) {
+        this.config = Objects.requireNonNull(config, "config arg is null");
+        this.browser = new Browser(config.browser(), config.headless());
+        this.webDriver = (WebDriver) Proxy.newProxyInstance(
+            InMemoryDriver.class.getClassLoader(),
+            new Class[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "InMemoryWebDriver";
+                    default:
+                        throw new UnsupportedCommandException("In-memory WebDriver does not support "
+                            + method.getName() + " method");
+                }
+            }
+        );
+    }
+
+    @Override
+    public Config config() {
+        return this.config;
+    }
+
+    @Override
+    public Browser browser() {
+        return this.browser;
+    }
+
+    @Override
+    public boolean hasWebDriverStarted() {
+        return true;
+    }
+
+    @Override
+    public WebDriver getWebDriver() {
+        return this.webDriver;
+    }
+
+    @Override
+    @Nullable
+    public SelenideProxyServer getProxy() {
+        return null;
+    }
+
+    @Override
+    public WebDriver getAndCheckWebDriver() {
+        return this.webDriver;
+    }
+
+    @Override
+    public DownloadsFolder browserDownloadsFolder() {
+        return new SharedDownloadsFolder(this.config.downloadsFolder());
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ElementFinder;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Factory of browserless SelenideElements. Elements are instantiated as a {@link java.lang.reflect.Proxy}
+ * with the Selenide invocation handler, so Selenide commands, conditions and waiting work as usual
+ * on the {@link InMemoryWebElement}.
+ *
+ * <pre>{@code
+ * InMemoryWebElement input = new InMemoryWebElement("input").setAttribute("id", "login");
+ * SelenideElement element = InMemoryElements.of(input, Latency.fixed(Duration.ofMillis(2)));
+ *
+ * element.setValue("user");
+ * element.shouldHave(value("user"));
+ * }</pre>
+ */
+@ParametersAreNonnullByDefault
+public final class InMemoryElements {
+
+    /**
+     * Utility class ctor.
+     */
+    private InMemoryElements() {
+    }
+
+    /**
+     * Returns SelenideElement of given element bound to the new {@link InMemoryDriver}, element lookup
+     * has no latency.
+     *
+     * @param element the element
+     * @return SelenideElement
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public static SelenideElement of(final InMemoryWebElement element) {
+        return of(new InMemoryDriver(), element, Latency.none());
+    }
+
+    /**
+     * Returns SelenideElement of given element bound to the new {@link InMemoryDriver}.
+     *
+     * @param element       the element
+     * @param lookupLatency the element lookup latency
+     * @return SelenideElement
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static SelenideElement of(final InMemoryWebElement element,
+                                     final Latency lookupLatency) {
+        return of(new InMemoryDriver(), element, lookupLatency);
+    }
+
+    /**
+     * Returns SelenideElement of given element bound to given driver. Elements of one driver belong
+     * to one session, e.g. for the session based asynchronous execution.
+     *
+     * @param driver        the driver
+     * @param element       the element
+     * @param lookupLatency the element lookup latency
+     * @return SelenideElement
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static SelenideElement of(final Driver driver,
+                                     final InMemoryWebElement element,
+                                     final Latency lookupLatency) {
+        return ElementFinder.wrap(SelenideElement.class, new InMemoryWebElementSource(driver, element, lookupLatency));
+    }
+}
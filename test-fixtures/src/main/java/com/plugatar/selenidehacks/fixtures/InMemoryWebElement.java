@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory DOM-like {@link WebElement}. Each WebElement method call blocks for the element latency.
+ *
+ * <p>{@link org.openqa.selenium.Keys} are ignored by {@link #sendKeys(CharSequence...)} method. Child elements
+ * can be found by {@code By.id}, {@code By.tagName}, {@code By.className}, {@code By.name}
+ * and {@code By.cssSelector} of simple selectors like {@code tag#id.class}.</p>
+ */
+@ParametersAreNonnullByDefault
+public class InMemoryWebElement implements WebElement {
+    private static final char KEYS_FIRST_CHAR = '\uE000';
+    private static final char KEYS_LAST_CHAR = '\uE0FF';
+    private static final Pattern LOCATOR = Pattern.compile("By\\.(\\w+): (.*)");
+    private static final Pattern SIMPLE_SELECTOR = Pattern.compile("([\\w-]*)((?:[#.][\\w-]+)*)");
+    private final String tagName;
+    private final Map<String, String> attributes = new ConcurrentHashMap<>();
+    private final List<InMemoryWebElement> children = new CopyOnWriteArrayList<>();
+    private final LongAdder clicks = new LongAdder();
+    private volatile String text = "";
+    private volatile boolean displayed = true;
+    private volatile boolean enabled = true;
+    private volatile boolean selected = false;
+    private volatile Latency latency = Latency.none();
+
+    /**
+     * Ctor.
+     *
+     * @param tagName the tag name
+     * @throws NullPointerException if {@code tagName} is {@code null}
+     */
+    public InMemoryWebElement(final String tagName) {
+        this.tagName = Objects.requireNonNull(tagName, "tagName arg is null");
+    }
+
+    /**
+     * Sets the element text.
+     *
+     * @param newText the text
+     * @return this element
+     * @throws NullPointerException if {@code newText} is {@code null}
+     */
+    public InMemoryWebElement setText(final String newText) {
+        this.text = Objects.requireNonNull(newText, "newText arg is null");
+        return this;
+    }
+
+    /**
+     * Sets the element attribute, {@code value} attribute is the element value.
+     *
+     * @param name  the attribute name
+     * @param value the attribute value or {@code null} to remove the attribute
+     * @return this element
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    public InMemoryWebElement setAttribute(final String name,
+                                           final @Nullable String value) {
+        Objects.requireNonNull(name, "name arg is null");
+        if (value == null) {
+            this.attributes.remove(name);
+        } else {
+            this.attributes.put(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the element visibility.
+     *
+     * @param newDisplayed the visibility
+     * @return this element
+     */
+    public InMemoryWebElement setDisplayed(final boolean newDisplayed) {
+        this.displayed = newDisplayed;
+        return this;
+    }
+
+    /**
+     * Sets the element enabled state.
+     *
+     * @param newEnabled the enabled state
+     * @return this element
+     */
+    public InMemoryWebElement setEnabled(final boolean newEnabled) {
+        this.enabled = newEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the element selected state.
+     *
+     * @param newSelected the selected state
+     * @return this element
+     */
+    public InMemoryWebElement setSelected(final boolean newSelected) {
+        this.selected = newSelected;
+        return this;
+    }
+
+    /**
+     * Sets the latency of each WebElement method call.
+     *
+     * @param newLatency the latency
+     * @return this element
+     * @throws NullPointerException if {@code newLatency} is {@code null}
+     */
+    public InMemoryWebElement setLatency(final Latency newLatency) {
+        this.latency = Objects.requireNonNull(newLatency, "newLatency arg is null");
+        return this;
+    }
+
+    /**
+     * Appends given child element.
+     *
+     * @param child the child element
+     * @return this element
+     * @throws NullPointerException if {@code child} is {@code null}
+     */
+    public InMemoryWebElement appendChild(final InMemoryWebElement child) {
+        this.children.add(Objects.requireNonNull(child, "child arg is null"));
+        return this;
+    }
+
+    /**
+     * Returns the count of {@link #click()} calls.
+     *
+     * @return clicks count
+     */
+    public long clicks() {
+        return this.clicks.sum();
+    }
+
+    @Override
+    public void click() {
+        this.latency.await();
+        this.assertInteractable();
+        this.clicks.increment();
+        final String type = this.attributes.get("type");
+        if ("checkbox".equals(type)) {
+            this.selected = !this.selected;
+        } else if ("radio".equals(type)) {
+            this.selected = true;
+        }
+    }
+
+    @Override
+    public void submit() {
+        this.latency.await();
+    }
+
+    @Override
+    public void sendKeys(final CharSequence... keysToSend) {
+        this.latency.await();
+        this.assertInteractable();
+        final StringBuilder value = new StringBuilder(this.attributes.getOrDefault("value", ""));
+        for (final CharSequence keys : keysToSend) {
+            for (int idx = 0; idx < keys.length(); ++idx) {
+                final char ch = keys.charAt(idx);
+                if (ch < KEYS_FIRST_CHAR || ch > KEYS_LAST_CHAR) {
+                    value.append(ch);
+                }
+            }
+        }
+        this.attributes.put("value", value.toString());
+    }
+
+    @Override
+    public void clear() {
+        this.latency.await();
+        this.assertInteractable();
+        this.attributes.put("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        this.latency.await();
+        return this.tagName;
+    }
+
+    @Override
+    @Nullable
+    public String getAttribute(final String name) {
+        this.latency.await();
+        return this.attributes.get(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        this.latency.await();
+        return this.selected;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        this.latency.await();
+        return this.enabled;
+    }
+
+    @Override
+    public String getText() {
+        this.latency.await();
+        return this.displayed ? this.text : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(final By by) {
+        this.latency.await();
+        final List<WebElement> found = new ArrayList<>();
+        this.collectMatching(by, found);
+        return found;
+    }
+
+    @Override
+    public WebElement findElement(final By by) {
+        final List<WebElement> found = this.findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        this.latency.await();
+        return this.displayed;
+    }
+
+    @Override
+    public Point getLocation() {
+        this.latency.await();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        this.latency.await();
+        return this.displayed ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(this.getLocation(), this.getSize());
+    }
+
+    @Override
+    public String getCssValue(final String propertyName) {
+        this.latency.await();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(final OutputType<X> target) {
+        throw new UnsupportedCommandException("In-memory element screenshots are not supported");
+    }
+
+    @Override
+    public String toString() {
+        return "<" + this.tagName + this.attributes + ">" + this.text + "</" + this.tagName + ">";
+    }
+
+    private void assertInteractable() {
+        if (!this.displayed || !this.enabled) {
+            throw new ElementNotInteractableException("Element is not displayed or not enabled: " + this);
+        }
+    }
+
+    private void collectMatching(final By by,
+                                 final List<WebElement> found) {
+        for (final InMemoryWebElement child : this.children) {
+            if (child.matches(by)) {
+                found.add(child);
+            }
+            child.collectMatching(by, found);
+        }
+    }
+
+    private boolean matches(final By by) {
+        final Matcher locator = LOCATOR.matcher(by.toString());
+        if (!locator.matches()) {
+            throw new UnsupportedCommandException("Unsupported locator: " + by);
+        }
+        final String value = locator.group(2);
+        switch (locator.group(1)) {
+            case "id":
+                return value.equals(this.attributes.get("id"));
+            case "name":
+                return value.equals(this.attributes.get("name"));
+            case "tagName":
+                return value.equalsIgnoreCase(this.tagName);
+            case "className":
+                return this.hasClass(value);
+            case "cssSelector":
+                return this.matchesSelector(value);
+            default:
+                throw new UnsupportedCommandException("Unsupported locator: " + by);
+        }
+    }
+
+    private boolean matchesSelector(final String selector) {
+        final Matcher matcher = SIMPLE_SELECTOR.matcher(selector.trim());
+        if (!matcher.matches() || selector.trim().isEmpty()) {
+            throw new UnsupportedCommandException("Unsupported CSS selector: " + selector);
+        }
+        final String tag = matcher.group(1);
+        if (!tag.isEmpty() && !tag.equalsIgnoreCase(this.tagName)) {
+            return false;
+        }
+        final String[] parts = matcher.group(2).split("(?=[#.])");
+        for (final String part : parts) {
+            if (part.startsWith("#") && !part.substring(1).equals(this.attributes.get("id"))
+                || part.startsWith(".") && !this.hasClass(part.substring(1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasClass(final String className) {
+        final String classes = this.attributes.get("class");
+        if (classes != null) {
+            for (final String value : classes.trim().split("\\s+")) {
+                if (value.equals(className)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
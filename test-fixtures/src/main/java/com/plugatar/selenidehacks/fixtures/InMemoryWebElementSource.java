@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Objects;
+
+/**
+ * {@link WebElementSource} of the {@link InMemoryWebElement}. Each element lookup blocks for the lookup
+ * latency.
+ */
+@ParametersAreNonnullByDefault
+public class InMemoryWebElementSource extends WebElementSource {
+    private final Driver driver;
+    private final InMemoryWebElement element;
+    private final Latency lookupLatency;
+
+    /**
+     * Ctor.
+     *
+     * @param driver        the driver
+     * @param element       the element
+     * @param lookupLatency the element lookup latency
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public InMemoryWebElementSource(final Driver driver,
+                                    final InMemoryWebElement element,
+                                    final Latency lookupLatency) {
+        this.driver = Objects.requireNonNull(driver, "driver arg is null");
+        this.element = Objects.requireNonNull(element, "element arg is null");
+        this.lookupLatency = Objects.requireNonNull(lookupLatency, "lookupLatency arg is null");
+    }
+
+    @Override
+    public Driver driver() {
+        return this.driver;
+    }
+
+    @Override
+    public WebElement getWebElement() {
+        this.lookupLatency.await();
+        return this.element;
+    }
+
+    @Override
+    public String getSearchCriteria() {
+        return "in-memory " + this.element;
+    }
+}
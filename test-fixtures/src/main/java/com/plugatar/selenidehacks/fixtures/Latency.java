@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Artificial latency of in-memory WebDriver round trips.
+ */
+@ParametersAreNonnullByDefault
+@FunctionalInterface
+public interface Latency {
+
+    /**
+     * Blocks the current thread for the latency.
+     */
+    void await();
+
+    /**
+     * Returns zero latency.
+     *
+     * @return zero latency
+     */
+    static Latency none() {
+        return () -> { };
+    }
+
+    /**
+     * Returns fixed latency.
+     *
+     * @param latency the latency
+     * @return fixed latency
+     * @throws NullPointerException     if {@code latency} is {@code null}
+     * @throws IllegalArgumentException if {@code latency} is negative
+     */
+    static Latency fixed(final Duration latency) {
+        Objects.requireNonNull(latency, "latency arg is null");
+        if (latency.isNegative()) { throw new IllegalArgumentException("latency arg is negative"); }
+        final long nanos = latency.toNanos();
+        return nanos == 0L ? none() : () -> pause(nanos);
+    }
+
+    /**
+     * Returns latency uniformly distributed between given bounds.
+     *
+     * @param min the min latency
+     * @param max the max latency
+     * @return uniform latency
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if any argument is negative or if {@code max} is less than {@code min}
+     */
+    static Latency uniform(final Duration min,
+                           final Duration max) {
+        Objects.requireNonNull(min, "min arg is null");
+        Objects.requireNonNull(max, "max arg is null");
+        if (min.isNegative()) { throw new IllegalArgumentException("min arg is negative"); }
+        final long minNanos = min.toNanos();
+        final long maxNanos = max.toNanos();
+        if (maxNanos < minNanos) { throw new IllegalArgumentException("max arg is less than min arg"); }
+        return () -> pause(ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1L));
+    }
+
+    /**
+     * Blocks the current thread for given time. Sub-millisecond pauses are spun instead of parked because
+     * parking precision is too low for them.
+     *
+     * @param nanos the time in nanoseconds
+     */
+    static void pause(final long nanos) {
+        final long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0L) {
+            if (remaining > 1_000_000L) {
+                LockSupport.parkNanos(remaining - 500_000L);
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
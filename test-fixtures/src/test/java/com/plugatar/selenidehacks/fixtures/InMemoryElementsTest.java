@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.selenidehacks.fixtures;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ElementShould;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.selected;
+import static com.codeborne.selenide.Condition.value;
+import static com.codeborne.selenide.Condition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link InMemoryElements}.
+ */
+final class InMemoryElementsTest {
+
+    @Test
+    void selenideMethodsWorkOnInMemoryElement() {
+        final InMemoryWebElement input = new InMemoryWebElement("input").setAttribute("type", "checkbox");
+        final SelenideElement element = InMemoryElements.of(input);
+
+        element.setValue("login").append("@example.com");
+        element.click();
+
+        assertThat(element.getValue()).isEqualTo("login@example.com");
+        assertThat(input.clicks()).isEqualTo(1L);
+        element.shouldHave(value("login@example.com")).shouldBe(visible, selected);
+    }
+
+    @Test
+    void childElementsAreFound() {
+        final SelenideElement element = InMemoryElements.of(new InMemoryWebElement("form")
+            .appendChild(new InMemoryWebElement("div").setAttribute("class", "row")
+                .appendChild(new InMemoryWebElement("span").setAttribute("id", "user").setText("Alice")))
+            .appendChild(new InMemoryWebElement("span").setAttribute("class", "hint").setText("Hint")));
+
+        element.$("#user").shouldHave(exactText("Alice"));
+        element.$("span.hint").shouldHave(exactText("Hint"));
+        assertThat(element.$$("span").texts()).containsExactly("Alice", "Hint");
+    }
+
+    @Test
+    void conditionFailsAfterTimeout() {
+        final SelenideElement element = InMemoryElements.of(
+            new InMemoryDriver(new SelenideConfig().timeout(50L).screenshots(false).savePageSource(false)),
+            new InMemoryWebElement("div").setDisplayed(false),
+            Latency.none()
+        );
+
+        assertThatCode(() -> element.shouldBe(visible)).isInstanceOf(ElementShould.class);
+    }
+
+    @Test
+    void lookupAndElementLatenciesAreApplied() {
+        final InMemoryWebElement div = new InMemoryWebElement("div").setText("text")
+            .setLatency(Latency.fixed(Duration.ofMillis(5)));
+        final SelenideElement element = InMemoryElements.of(div, Latency.fixed(Duration.ofMillis(10)));
+
+        final long start = System.nanoTime();
+        final String text = element.getText();
+        final long durationNanos = System.nanoTime() - start;
+
+        assertThat(text).isEqualTo("text");
+        assertThat(durationNanos).isGreaterThanOrEqualTo(Duration.ofMillis(15).toNanos());
+    }
+}